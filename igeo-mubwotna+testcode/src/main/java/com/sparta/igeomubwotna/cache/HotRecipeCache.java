@@ -0,0 +1,118 @@
+package com.sparta.igeomubwotna.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sparta.igeomubwotna.dto.RecipeResponseDto;
+import com.sparta.igeomubwotna.event.RecipeChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// recipeId -> 완성된 RecipeResponseDto 캐시 (단건 조회용 read-through)
+// 전체 크기는 엔트리 개수가 아니라 추정 바이트 수로 제한하고, 제거 대상은 Caffeine의 W-TinyLFU(최근성 + 빈도)로 결정
+// 수정 / 삭제 / 좋아요 변경이 커밋되면 해당 레시피를 즉시 제거
+// 커밋 이벤트는 같은 서버에만 전달되므로, 다른 서버에서 바뀐 레시피도 ttl-seconds 안에는 다시 읽도록 쓰기 후 만료를 둠
+@Component
+public class HotRecipeCache {
+
+    // 객체 헤더, 필드, LocalDateTime 두 개 등 문자열을 뺀 고정 비용 추정치
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final Cache<Long, Entry> cache;
+
+    @Autowired
+    public HotRecipeCache(@Value("${recipe.cache.maximum-bytes}") long maximumBytes,
+                          @Value("${recipe.cache.ttl-seconds}") long ttlSeconds,
+                          MeterRegistry meterRegistry) {
+        this(maximumBytes, ttlSeconds, meterRegistry, Ticker.systemTicker());
+    }
+
+    // 테스트에서 시간을 직접 움직이기 위한 생성자
+    HotRecipeCache(long maximumBytes, long ttlSeconds, MeterRegistry meterRegistry, Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Long recipeId, Entry entry) -> entry.getWeight())
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "hotRecipe");
+    }
+
+    // 없으면 loader로 만들어서 저장 (loader 예외는 그대로 전달되고 캐시에는 남지 않음)
+    public RecipeResponseDto get(Long recipeId, Function<Long, RecipeResponseDto> loader) {
+        Entry entry = cache.get(recipeId, key -> new Entry(key, loader.apply(key)));
+        entry.hits.increment();
+        return entry.getValue();
+    }
+
+    // 캐시에 있을 때만 반환 (적중 횟수는 세지 않음)
+    public RecipeResponseDto getIfPresent(Long recipeId) {
+        Entry entry = cache.getIfPresent(recipeId);
+        return entry == null ? null : entry.getValue();
+    }
+
+    public void invalidate(Long recipeId) {
+        cache.invalidate(recipeId);
+    }
+
+    // 적중 횟수가 많은 순으로 limit개 (어떤 레시피가 많이 조회되는지 확인용)
+    public List<Entry> hottest(int limit) {
+        return cache.asMap().values().stream()
+                .sorted(Comparator.comparingLong(Entry::getHits).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public long estimatedBytes() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        invalidate(event.getRecipeId());
+    }
+
+    @Getter
+    public static class Entry {
+        private final Long recipeId;
+        private final RecipeResponseDto value;
+        private final int weight;
+        private final LongAdder hits = new LongAdder();
+
+        Entry(Long recipeId, RecipeResponseDto value) {
+            this.recipeId = recipeId;
+            this.value = value;
+            this.weight = estimateBytes(value);
+        }
+
+        public long getHits() {
+            return hits.sum();
+        }
+
+        // 문자열은 UTF-16 기준 글자당 2바이트로 추정
+        private static int estimateBytes(RecipeResponseDto value) {
+            return ENTRY_OVERHEAD_BYTES
+                    + 2 * (length(value.getTitle()) + length(value.getContent()) + length(value.getUserId()));
+        }
+
+        private static int length(String value) {
+            return value == null ? 0 : value.length();
+        }
+    }
+}
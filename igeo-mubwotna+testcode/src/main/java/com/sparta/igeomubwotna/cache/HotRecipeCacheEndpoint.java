@@ -0,0 +1,40 @@
+package com.sparta.igeomubwotna.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// GET /actuator/hotrecipes : 캐시에 있는 레시피별 적중 횟수 (많은 순)
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "hotrecipes")
+public class HotRecipeCacheEndpoint {
+
+    private static final int LIMIT = 50;
+
+    private final HotRecipeCache hotRecipeCache;
+
+    @ReadOperation
+    public Map<String, Object> hotRecipes() {
+        List<Map<String, Object>> entries = hotRecipeCache.hottest(LIMIT).stream()
+                .map(entry -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("recipeId", entry.getRecipeId());
+                    row.put("title", entry.getValue().getTitle());
+                    row.put("hits", entry.getHits());
+                    row.put("bytes", entry.getWeight());
+                    return row;
+                })
+                .toList();
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("estimatedBytes", hotRecipeCache.estimatedBytes());
+        body.put("entries", entries);
+        return body;
+    }
+}
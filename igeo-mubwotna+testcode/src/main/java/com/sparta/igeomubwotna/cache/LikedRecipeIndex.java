@@ -0,0 +1,92 @@
+package com.sparta.igeomubwotna.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sparta.igeomubwotna.event.RecipeLikeChangedEvent;
+import com.sparta.igeomubwotna.repository.RecipeLikesRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.TimeUnit;
+
+// 사용자 PK -> 좋아요를 누른 레시피 id 집합 (목록 응답의 likedByMe 표시용)
+// 처음 필요할 때 recipe_likes에서 한 번 읽고, 이후에는 좋아요 추가 / 취소가 커밋될 때 집합만 갱신
+// 전체 크기는 보관 중인 레시피 id 개수로 제한하고, 오래 쓰지 않은 사용자부터 제거
+// 커밋 이벤트는 같은 서버에만 전달되므로, 다른 서버에서 누른 좋아요도 ttl-seconds 안에는 다시 읽도록 DB에서 읽은 시점부터 만료
+// (이벤트로 집합을 갱신해도 만료 시각은 늘어나지 않음)
+@Component
+public class LikedRecipeIndex {
+
+    // id 수가 적은 사용자도 배열 / 객체 헤더 비용이 있으므로 최소 가중치를 둠
+    private static final int MIN_WEIGHT = 4;
+
+    private final RecipeLikesRepository recipeLikesRepository;
+    private final Cache<Long, LongIdSet> cache;
+
+    @Autowired
+    public LikedRecipeIndex(RecipeLikesRepository recipeLikesRepository,
+                            @Value("${recipe.liked-index.maximum-ids}") long maximumIds,
+                            @Value("${recipe.liked-index.ttl-seconds}") long ttlSeconds,
+                            MeterRegistry meterRegistry) {
+        this(recipeLikesRepository, maximumIds, ttlSeconds, meterRegistry, Ticker.systemTicker());
+    }
+
+    // 테스트에서 시간을 직접 움직이기 위한 생성자
+    LikedRecipeIndex(RecipeLikesRepository recipeLikesRepository, long maximumIds, long ttlSeconds,
+                     MeterRegistry meterRegistry, Ticker ticker) {
+        this.recipeLikesRepository = recipeLikesRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumIds)
+                .weigher((Long userPk, LongIdSet ids) -> Math.max(ids.size(), MIN_WEIGHT))
+                .expireAfter(new ExpireAfterLoad(TimeUnit.SECONDS.toNanos(ttlSeconds)))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "likedRecipe");
+    }
+
+    // 사용자가 좋아요를 누른 레시피 집합 (목록 한 페이지에 한 번만 호출)
+    public LongIdSet get(Long userPk) {
+        return cache.get(userPk, key -> LongIdSet.of(recipeLikesRepository.findRecipeIdsByUserId(key)));
+    }
+
+    // 아직 읽지 않은 사용자는 다음 조회 때 DB에서 읽으므로 갱신하지 않음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeLikeChanged(RecipeLikeChangedEvent event) {
+        cache.asMap().computeIfPresent(event.getUserPk(), (userPk, ids) -> event.isLiked()
+                ? ids.with(event.getRecipeId())
+                : ids.without(event.getRecipeId()));
+    }
+
+    // DB에서 읽은 뒤 ttl이 지나면 만료 (갱신 / 조회는 남은 시간을 그대로 유지)
+    private static class ExpireAfterLoad implements Expiry<Long, LongIdSet> {
+        private final long ttlNanos;
+
+        ExpireAfterLoad(long ttlNanos) {
+            this.ttlNanos = ttlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(Long userPk, LongIdSet ids, long currentTime) {
+            return ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long userPk, LongIdSet ids, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(Long userPk, LongIdSet ids, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
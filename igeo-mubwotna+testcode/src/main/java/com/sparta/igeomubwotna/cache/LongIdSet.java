@@ -0,0 +1,54 @@
+package com.sparta.igeomubwotna.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+// 정렬된 long[] 하나로 만든 불변 id 집합 (Set<Long>보다 id당 메모리가 8바이트 수준)
+// 변경 시 새 배열을 만들어 교체하므로 읽는 쪽은 락 없이 사용
+public final class LongIdSet {
+
+    public static final LongIdSet EMPTY = new LongIdSet(new long[0]);
+
+    private final long[] ids;
+
+    private LongIdSet(long[] ids) {
+        this.ids = ids;
+    }
+
+    public static LongIdSet of(Collection<Long> values) {
+        long[] ids = values.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return ids.length == 0 ? EMPTY : new LongIdSet(ids);
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public LongIdSet with(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            return this;
+        }
+        int insertAt = -index - 1;
+        long[] next = new long[ids.length + 1];
+        System.arraycopy(ids, 0, next, 0, insertAt);
+        next[insertAt] = id;
+        System.arraycopy(ids, insertAt, next, insertAt + 1, ids.length - insertAt);
+        return new LongIdSet(next);
+    }
+
+    public LongIdSet without(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return this;
+        }
+        long[] next = new long[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, index);
+        System.arraycopy(ids, index + 1, next, index, ids.length - index - 1);
+        return new LongIdSet(next);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+}
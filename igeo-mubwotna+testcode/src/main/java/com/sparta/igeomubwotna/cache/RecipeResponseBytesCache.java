@@ -0,0 +1,103 @@
+package com.sparta.igeomubwotna.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.igeomubwotna.event.RecipeChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+// recipeId -> 단건 조회 응답을 직렬화한 JSON 바이트 (+ gzip 바이트)
+// gzip 바이트는 JSON 바이트와 다른 표현이므로 ETag 뒤에 "-gz"를 붙여서 응답
+// ETag(레시피 버전)가 같을 때만 사용하므로 좋아요 / 수정으로 버전이 바뀌면 다시 직렬화해서 덮어씀
+// 적중하면 DTO 생성, Jackson 직렬화, UTF-8 인코딩 없이 바이트를 그대로 응답에 씀
+@Component
+public class RecipeResponseBytesCache {
+
+    private static final String GZIP_ETAG_SUFFIX = "-gz";
+
+    // 엔트리 객체, 배열 헤더, ETag 문자열 등 바이트 배열을 뺀 고정 비용 추정치
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int gzipMinBytes;
+    private final Cache<Long, Entry> cache;
+
+    public RecipeResponseBytesCache(ObjectMapper objectMapper,
+                                    @Value("${recipe.response-bytes.enabled}") boolean enabled,
+                                    @Value("${recipe.response-bytes.maximum-bytes}") long maximumBytes,
+                                    @Value("${recipe.response-bytes.gzip-min-bytes}") int gzipMinBytes,
+                                    MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.gzipMinBytes = gzipMinBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Long recipeId, Entry entry) -> entry.weight())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "recipeResponseBytes");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 같은 버전(eTag)의 바이트가 있을 때만 반환
+    public Entry get(Long recipeId, String eTag) {
+        Entry entry = cache.getIfPresent(recipeId);
+        return entry != null && entry.eTag().equals(eTag) ? entry : null;
+    }
+
+    // body를 직렬화해서 eTag 버전으로 저장 (gzip-min-bytes 이상이면 gzip 바이트도 함께 저장)
+    public Entry put(Long recipeId, String eTag, Object body) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        Entry entry = new Entry(eTag, json, gzipMinBytes >= 0 && json.length >= gzipMinBytes ? gzip(json) : null);
+        cache.put(recipeId, entry);
+        return entry;
+    }
+
+    // "\"abc\"" -> "\"abc-gz\"" (따옴표 안에 붙여야 강한 ETag 형식이 유지됨)
+    public static String gzipETag(String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + GZIP_ETAG_SUFFIX + "\"";
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        cache.invalidate(event.getRecipeId());
+    }
+
+    private byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // gzip은 본문이 gzip-min-bytes보다 작으면 null
+    public record Entry(String eTag, byte[] json, byte[] gzip) {
+        int weight() {
+            return ENTRY_OVERHEAD_BYTES + json.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+}
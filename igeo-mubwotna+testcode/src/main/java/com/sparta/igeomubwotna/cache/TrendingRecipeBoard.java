@@ -0,0 +1,264 @@
+package com.sparta.igeomubwotna.cache;
+
+import com.sparta.igeomubwotna.dto.TrendingRecipeDto;
+import com.sparta.igeomubwotna.event.RecipeChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 인기 급상승 레시피 순위 (좋아요 하나의 가중치가 half-life-minutes마다 절반으로 줄어드는 점수 기준)
+// - refresh-interval-ms마다 recipe_likes에 새로 추가된 행을 id 순으로 읽어서 레시피 점수에 +1
+//   (모든 서버가 같은 테이블을 보므로 다른 서버에서 누른 좋아요도 반영, 시간 감쇠는 기준 시각 대비 e^(t/τ)를 곱해서
+//   더하는 방식이라 좋아요마다 전체 점수를 다시 계산하지 않음)
+// - 시각은 모두 DB 시계 기준 (created_at을 DB가 채우므로 서버와 DB의 시계 / 시간대 차이에 영향받지 않음)
+// - 좋아요 취소는 행이 지워져서 다른 서버에서는 알 수 없으므로 반영하지 않음 (점수는 시간이 지나며 줄어듦)
+// - 읽은 뒤 상위 size개와 제목으로 순위를 새로 만들어 두고, 조회는 만들어 둔 목록만 반환 (DB 조회 없음)
+// - 점수를 들고 있는 후보 레시피는 capacity개로 제한 (넘치면 점수가 낮은 레시피부터 제거)
+@Component
+public class TrendingRecipeBoard {
+
+    // 후보가 capacity의 이 배수까지 쌓이면 갱신 주기를 기다리지 않고 줄임
+    private static final int HARD_LIMIT_FACTOR = 2;
+    // 이보다 작아진 점수는 후보에서 제거
+    private static final double MIN_SCORE = 0.01;
+    // 기준 시각 이후 지난 시간이 τ의 이 배수를 넘으면 기준 시각을 옮김 (e^(t/τ) 값이 너무 커지지 않도록)
+    private static final double MAX_EXPONENT = 30;
+    // recipe_likes를 한 번에 읽는 행 수
+    private static final int FEED_BATCH = 10_000;
+    // 먼저 번호를 받았지만 늦게 커밋되는 행을 건너뛰지 않도록 이 시간 안에 추가된 행부터는 다음 주기에 읽음
+    private static final long COMMIT_GRACE_MILLIS = 5_000;
+    // 건너뛴 id(아직 커밋되지 않았거나 롤백 / 중복으로 버려진 번호)를 다시 확인하는 시간과 최대 개수
+    private static final long GAP_RETENTION_MILLIS = 60_000;
+    private static final int MAX_GAPS = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int size;
+    private final int capacity;
+    // 평균 수명 τ = 반감기 / ln 2 (밀리초)
+    private final double tauMillis;
+
+    // recipeId -> Σ e^((좋아요 시각 - landmark) / τ)
+    private final ConcurrentHashMap<Long, DoubleAdder> scores = new ConcurrentHashMap<>();
+    // 점수를 더하는 쪽은 읽기 락(동시에 여러 스레드), 기준 시각을 옮기거나 후보를 줄일 때는 쓰기 락
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile long landmark;
+
+    // 마지막으로 반영한 recipe_likes.id (갱신 스레드에서만 사용, 처음 갱신 때 그 시점의 최댓값부터 시작)
+    private long lastLikeId = -1L;
+    // lastLikeId 아래에서 건너뛴 id -> 건너뛴 시각 (갱신 스레드에서만 사용)
+    private final TreeMap<Long, Long> gaps = new TreeMap<>();
+
+    private final Map<Long, String> titles = new ConcurrentHashMap<>();
+    private volatile List<TrendingRecipeDto> top = List.of();
+
+    public TrendingRecipeBoard(JdbcTemplate jdbcTemplate,
+                               @Value("${recipe.trending.size}") int size,
+                               @Value("${recipe.trending.capacity}") int capacity,
+                               @Value("${recipe.trending.half-life-minutes}") double halfLifeMinutes,
+                               MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.size = size;
+        this.capacity = capacity;
+        this.tauMillis = halfLifeMinutes * 60_000 / Math.log(2);
+        this.landmark = System.currentTimeMillis();
+
+        Gauge.builder("recipe.trending.candidates", scores, Map::size).register(meterRegistry);
+    }
+
+    // 조회는 갱신 시 만들어 둔 목록만 반환
+    public List<TrendingRecipeDto> top() {
+        return top;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (event.getType() == RecipeChangedEvent.Type.DELETED) {
+            scores.remove(event.getRecipeId());
+            top = top.stream().filter(recipe -> !recipe.getRecipeId().equals(event.getRecipeId())).toList();
+        }
+        if (event.getType() != RecipeChangedEvent.Type.LIKED) {
+            titles.remove(event.getRecipeId());
+        }
+    }
+
+    void record(Long recipeId, int delta, long now) {
+        lock.readLock().lock();
+        try {
+            scores.computeIfAbsent(recipeId, key -> new DoubleAdder())
+                    .add(delta * Math.exp((now - landmark) / tauMillis));
+        } finally {
+            lock.readLock().unlock();
+        }
+        // 이미 다른 스레드가 줄이고 있으면 기다리지 않음
+        if (scores.size() > capacity * HARD_LIMIT_FACTOR && lock.writeLock().tryLock()) {
+            try {
+                pruneLocked(now);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${recipe.trending.refresh-interval-ms}")
+    public void refresh() {
+        refresh(jdbcTemplate.queryForObject("SELECT CURRENT_TIMESTAMP(6)", Timestamp.class).getTime());
+    }
+
+    void refresh(long now) {
+        feed(now);
+        List<Map.Entry<Long, Double>> ranked = prune(now);
+        List<Map.Entry<Long, Double>> leaders = ranked.subList(0, Math.min(size, ranked.size()));
+        loadMissingTitles(leaders.stream().map(Map.Entry::getKey).toList());
+
+        List<TrendingRecipeDto> next = new ArrayList<>(leaders.size());
+        for (Map.Entry<Long, Double> leader : leaders) {
+            String title = titles.get(leader.getKey());
+            if (title != null) {
+                next.add(new TrendingRecipeDto(leader.getKey(), title, Math.round(leader.getValue() * 100) / 100.0));
+            }
+        }
+        top = Collections.unmodifiableList(next);
+        titles.keySet().retainAll(leaders.stream().map(Map.Entry::getKey).toList());
+    }
+
+    // 마지막으로 반영한 행 이후에 추가된 좋아요를 추가된 시각 기준으로 반영
+    // 커밋 유예 시간이 지난 행만 읽고, 그 사이에 빠진 id는 GAP_RETENTION_MILLIS 동안 다시 확인
+    private void feed(long now) {
+        if (lastLikeId < 0) {
+            lastLikeId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM recipe_likes", Long.class);
+            rebase(now);
+            return;
+        }
+        feedGaps(now);
+        Timestamp settledBefore = new Timestamp(now - COMMIT_GRACE_MILLIS);
+        while (true) {
+            List<LikeRow> rows = jdbcTemplate.query(
+                    "SELECT id, recipe_id, created_at FROM recipe_likes WHERE id > ? AND created_at < ? ORDER BY id LIMIT ?",
+                    LIKE_ROW, lastLikeId, settledBefore, FEED_BATCH);
+            for (LikeRow row : rows) {
+                for (long skipped = lastLikeId + 1; skipped < row.id() && gaps.size() < MAX_GAPS; skipped++) {
+                    gaps.put(skipped, now);
+                }
+                record(row.recipeId(), 1, row.likedAt(now));
+                lastLikeId = row.id();
+            }
+            if (rows.size() < FEED_BATCH) {
+                return;
+            }
+        }
+    }
+
+    // 건너뛴 id 중 그 사이 커밋된 행을 반영하고, 오래된 id는 더 기다리지 않음
+    private void feedGaps(long now) {
+        gaps.values().removeIf(skippedAt -> now - skippedAt > GAP_RETENTION_MILLIS);
+        if (gaps.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(gaps.keySet());
+        for (int from = 0; from < ids.size(); from += FEED_BATCH) {
+            List<Long> batch = ids.subList(from, Math.min(from + FEED_BATCH, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(batch.size(), "?"));
+            for (LikeRow row : jdbcTemplate.query(
+                    "SELECT id, recipe_id, created_at FROM recipe_likes WHERE id IN (" + placeholders + ")",
+                    LIKE_ROW, batch.toArray())) {
+                record(row.recipeId(), 1, row.likedAt(now));
+                gaps.remove(row.id());
+            }
+        }
+    }
+
+    // 처음 갱신할 때 기준 시각을 DB 시계로 맞춤
+    private void rebase(long now) {
+        lock.writeLock().lock();
+        try {
+            moveLandmarkLocked(now);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 현재 시각 기준 점수로 정렬한 후보 목록 (낮은 점수 / capacity를 넘는 후보는 제거, 필요하면 기준 시각 이동)
+    private List<Map.Entry<Long, Double>> prune(long now) {
+        lock.writeLock().lock();
+        try {
+            return pruneLocked(now);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Map.Entry<Long, Double>> pruneLocked(long now) {
+        double decay = Math.exp(-(now - landmark) / tauMillis);
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.size());
+        scores.forEach((recipeId, score) -> ranked.add(Map.entry(recipeId, score.sum() * decay)));
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()));
+
+        int keep = 0;
+        while (keep < ranked.size() && keep < capacity && ranked.get(keep).getValue() >= MIN_SCORE) {
+            keep++;
+        }
+        for (Map.Entry<Long, Double> dropped : ranked.subList(keep, ranked.size())) {
+            scores.remove(dropped.getKey());
+        }
+
+        if ((now - landmark) / tauMillis > MAX_EXPONENT) {
+            moveLandmarkLocked(now);
+        }
+        return new ArrayList<>(ranked.subList(0, keep));
+    }
+
+    private void moveLandmarkLocked(long now) {
+        double decay = Math.exp(-(now - landmark) / tauMillis);
+        scores.values().forEach(score -> {
+            double current = score.sumThenReset() * decay;
+            score.add(current);
+        });
+        landmark = now;
+    }
+
+    // 순위에 새로 들어온 레시피의 제목만 조회 (갱신 스레드에서만 실행)
+    private void loadMissingTitles(List<Long> recipeIds) {
+        List<Long> missing = recipeIds.stream().filter(recipeId -> !titles.containsKey(recipeId)).toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(missing.size(), "?"));
+        Map<Long, String> loaded = new HashMap<>();
+        jdbcTemplate.query("SELECT id, title FROM recipe WHERE id IN (" + placeholders + ")",
+                rs -> {
+                    loaded.put(rs.getLong("id"), rs.getString("title"));
+                }, missing.toArray());
+        titles.putAll(loaded);
+
+        // 삭제된 레시피는 후보에서도 제거
+        missing.stream().filter(recipeId -> !loaded.containsKey(recipeId)).forEach(scores::remove);
+    }
+
+    private static final RowMapper<LikeRow> LIKE_ROW = (rs, rowNum) ->
+            new LikeRow(rs.getLong("id"), rs.getLong("recipe_id"), rs.getTimestamp("created_at"));
+
+    private record LikeRow(long id, long recipeId, Timestamp createdAt) {
+        long likedAt(long now) {
+            return createdAt == null ? now : createdAt.getTime();
+        }
+    }
+}
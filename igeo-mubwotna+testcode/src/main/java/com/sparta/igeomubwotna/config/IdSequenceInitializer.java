@@ -0,0 +1,43 @@
+package com.sparta.igeomubwotna.config;
+
+import com.sparta.igeomubwotna.entity.IdSequence;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 기동 시 id_sequence의 엔티티별 값을 테이블의 현재 최대 id보다 크게 맞춤
+// IDENTITY(AUTO_INCREMENT)로 저장된 기존 행과 새로 발급하는 id가 겹치지 않도록 하고,
+// 여러 서버가 동시에 기동해도 GREATEST로만 올리므로 이미 발급된 구간을 되돌리지 않음
+// (ddl-auto로 id_sequence가 만들어진 뒤에 실행되도록 entityManagerFactory 이후에 생성)
+@Slf4j(topic = "IdSequenceInitializer")
+@Component
+@DependsOn("entityManagerFactory")
+public class IdSequenceInitializer {
+
+    private static final List<String> SEQUENCES = List.of(IdSequence.RECIPE, IdSequence.COMMENT, IdSequence.USERS);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        for (String sequence : SEQUENCES) {
+            // 시퀀스 이름과 테이블 이름이 같음
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + sequence, Long.class);
+            // 첫 구간의 시작이 최대 id보다 크도록 한 구간만큼 여유를 둠
+            long floor = maxId + IdSequence.ALLOCATION_SIZE + 1;
+            jdbcTemplate.update("INSERT INTO " + IdSequence.TABLE + " (" + IdSequence.NAME_COLUMN + ", " +
+                    IdSequence.VALUE_COLUMN + ") VALUES (?, ?) ON DUPLICATE KEY UPDATE " +
+                    IdSequence.VALUE_COLUMN + " = GREATEST(COALESCE(" + IdSequence.VALUE_COLUMN + ", 0), VALUES(" +
+                    IdSequence.VALUE_COLUMN + "))", sequence, floor);
+            log.info("id_sequence {} >= {}", sequence, floor);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.sparta.igeomubwotna.config;
+
+import com.sparta.igeomubwotna.entity.RecipeSortEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 기동 시 RecipeSortEnum의 정렬 기준마다 (정렬 컬럼, id)로 시작하는 인덱스가 recipe 테이블에 있는지 확인
+// 인덱스 없이 정렬하면 MySQL이 recipe 전체를 filesort 하므로, 기본값(fail-on-missing=true)에서는 기동을 중단
+@Slf4j(topic = "RecipeSortIndexVerifier")
+@Component
+public class RecipeSortIndexVerifier {
+
+    private static final String TABLE = "recipe";
+
+    private final DataSource dataSource;
+    private final boolean failOnMissing;
+
+    public RecipeSortIndexVerifier(DataSource dataSource,
+                                   @Value("${recipe.sort.index-check.fail-on-missing:true}") boolean failOnMissing) {
+        this.dataSource = dataSource;
+        this.failOnMissing = failOnMissing;
+    }
+
+    // ddl-auto로 인덱스가 만들어진 뒤에 확인하도록 ApplicationReadyEvent에서 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() throws SQLException {
+        Map<String, List<String>> indexes = loadIndexes();
+
+        List<String> missing = new ArrayList<>();
+        for (RecipeSortEnum sort : RecipeSortEnum.values()) {
+            if (!hasUsableIndex(indexes, sort)) {
+                missing.add(sort.name() + "(" + String.join(", ", sort.getIndexColumns()) + ")");
+            }
+        }
+
+        if (missing.isEmpty()) {
+            log.info("정렬 인덱스 확인 완료: {}", indexes.keySet());
+            return;
+        }
+
+        String message = "정렬에 사용할 인덱스가 없습니다: " + missing;
+        if (failOnMissing) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    // 이름이 같은 인덱스가 아니더라도 (정렬 컬럼, id)로 시작하는 인덱스가 있으면 사용 가능한 것으로 봄
+    private boolean hasUsableIndex(Map<String, List<String>> indexes, RecipeSortEnum sort) {
+        List<String> expected = sort.getIndexColumns();
+        for (List<String> columns : indexes.values()) {
+            if (columns.size() >= expected.size() && columns.subList(0, expected.size()).equals(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // getIndexInfo는 테이블명을 대소문자 구분해서 찾으므로, DB에 실제로 저장된 이름을 대소문자 무시하고 찾아서 사용
+    // (lower_case_table_names 설정이나 DB 종류에 따라 recipe / RECIPE로 저장됨)
+    private String resolveTableName(DatabaseMetaData metaData, String catalog) throws SQLException {
+        try (ResultSet rs = metaData.getTables(catalog, null, "%", new String[]{"TABLE"})) {
+            while (rs.next()) {
+                String tableName = rs.getString("TABLE_NAME");
+                if (TABLE.equalsIgnoreCase(tableName)) {
+                    return tableName;
+                }
+            }
+        }
+        return null;
+    }
+
+    // 인덱스명 -> 컬럼 목록(순서대로)
+    private Map<String, List<String>> loadIndexes() throws SQLException {
+        Map<String, TreeMap<Short, String>> ordered = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String tableName = resolveTableName(metaData, connection.getCatalog());
+            if (tableName == null) {
+                return Map.of();
+            }
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), null, tableName, false, false)) {
+                while (rs.next()) {
+                    String indexName = rs.getString("INDEX_NAME");
+                    String columnName = rs.getString("COLUMN_NAME");
+                    if (indexName == null || columnName == null) {
+                        continue;
+                    }
+                    ordered.computeIfAbsent(indexName, key -> new TreeMap<>())
+                            .put(rs.getShort("ORDINAL_POSITION"), columnName.toLowerCase());
+                }
+            }
+        }
+
+        Map<String, List<String>> indexes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        ordered.forEach((name, columns) -> indexes.put(name, new ArrayList<>(columns.values())));
+        return indexes;
+    }
+}
@@ -1,23 +1,37 @@
 package com.sparta.igeomubwotna.config;
 
+import com.sparta.igeomubwotna.filter.AuthorizationMode;
 import com.sparta.igeomubwotna.filter.JwtAuthenticationFilter;
 import com.sparta.igeomubwotna.filter.JwtAuthorizationFilter;
 import com.sparta.igeomubwotna.jwt.JwtUtil;
+import com.sparta.igeomubwotna.jwt.RefreshTokenStore;
 import com.sparta.igeomubwotna.repository.UserRepository;
+import com.sparta.igeomubwotna.security.BoundedPasswordEncoder;
+import com.sparta.igeomubwotna.security.RevokedUserRegistry;
 import com.sparta.igeomubwotna.security.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Set;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
@@ -28,10 +42,21 @@ public class SecurityConfig {
     ;  //사용자 정보를 로드하는 서비스
     private final AuthenticationConfiguration authenticationConfiguration; //인증 구성을 위한 클래스.
     private final UserRepository userRepository;
+    private final RevokedUserRegistry revokedUserRegistry;
+    private final RefreshTokenStore refreshTokenStore;
+
+    @Value("${jwt.authorization.mode}") // CLAIMS: 토큰 Claim으로 인가, DATABASE: 매 요청 DB 조회
+    private AuthorizationMode authorizationMode;
+
+    @Value("${security.admin.user-ids}") // 대량 등록 / 내보내기를 허용할 계정
+    private Set<String> adminUserIds;
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    // 비밀번호 해시 / 검증은 전용 스레드 풀에서만 실행 (회원가입, 로그인, 프로필 수정, 탈퇴 공통)
+    public PasswordEncoder passwordEncoder(@Value("${security.password-hashing.pool-size}") int poolSize,
+                                           @Value("${security.password-hashing.queue-capacity}") int queueCapacity,
+                                           MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity, meterRegistry);
     }
 
     @Bean
@@ -44,7 +69,7 @@ public class SecurityConfig {
     // JWT 인증 필터를 빈으로 정의
     public JwtAuthenticationFilter jwtAuthenticationFilter() throws Exception {
         // 이 필터는 JWT를 사용하여 인증을 처리하며, 인증 관리자를 설정
-        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, userRepository);
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, refreshTokenStore);
         filter.setAuthenticationManager(authenticationManager(authenticationConfiguration));
         filter.setFilterProcessesUrl("/api/user/signin"); // 로그인 엔드포인트를 설정 (특정 작업을 수행하기 위해 서버에 요청을 보내는 url)
         return filter;
@@ -54,7 +79,7 @@ public class SecurityConfig {
     // JWT 인가(권한 부여) 필터를 빈으로 정의
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
         // 이 필터는 JWT를 사용하여 권한 부여를 처리
-        return new JwtAuthorizationFilter(jwtUtil, userDetailsService, userRepository);
+        return new JwtAuthorizationFilter(jwtUtil, userDetailsService, userRepository, refreshTokenStore, revokedUserRegistry, authorizationMode);
     }
 
     @Bean
@@ -73,6 +98,10 @@ public class SecurityConfig {
                         .requestMatchers("/api/user/signup").permitAll() // 회원가입 요청 모두 접근 허가
                         .requestMatchers("/api/user/signin").permitAll() // 로그인 요청 모두 접근 허가
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-resources/**").permitAll()  // Swagger UI에 대한 접근 허용
+                        // 비동기 응답(StreamingResponseBody)이 끝난 뒤의 디스패치는 처음 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/recipe/import").access(adminOnly()) // 레시피 대량 등록은 관리자만
+                        .requestMatchers("/api/export/**").access(adminOnly()) // 테이블 내보내기도 관리자만
                         .anyRequest().authenticated() // 그 외 모든 요청 인증처리
         );
 
@@ -82,4 +111,12 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    // security.admin.user-ids에 등록된 계정만 허용
+    private AuthorizationManager<RequestAuthorizationContext> adminOnly() {
+        return (authentication, context) -> {
+            Authentication auth = authentication.get();
+            return new AuthorizationDecision(auth != null && auth.isAuthenticated() && adminUserIds.contains(auth.getName()));
+        };
+    }
 }
\ No newline at end of file
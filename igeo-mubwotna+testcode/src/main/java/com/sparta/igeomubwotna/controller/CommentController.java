@@ -2,6 +2,7 @@ package com.sparta.igeomubwotna.controller;
 
 import com.sparta.igeomubwotna.dto.CommentRequestDto;
 import com.sparta.igeomubwotna.dto.CommentResponseDto;
+import com.sparta.igeomubwotna.dto.CursorPageResponseDto;
 import com.sparta.igeomubwotna.dto.Response;
 import com.sparta.igeomubwotna.security.UserDetailsImpl;
 import com.sparta.igeomubwotna.service.CommentService;
@@ -10,6 +11,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -28,12 +30,30 @@ public class CommentController {
         return commentService.createComment(requestDto, recipeId, userDetails.getUser());
     }
 
-    /* Read */
+    /* Read (If-None-Match가 현재 ETag와 같으면 댓글을 읽지 않고 304) */
     @GetMapping
-    public ResponseEntity<List<CommentResponseDto>> getComment(@PathVariable Long recipeId) {
+    public ResponseEntity<List<CommentResponseDto>> getComment(@PathVariable Long recipeId, WebRequest webRequest) {
+        String eTag = commentService.getCommentETag(recipeId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         return ResponseEntity.ok().body(commentService.getComment(recipeId));
     }
 
+    /* Read (페이지, 잘못된 커서나 다른 레시피의 커서는 400) */
+    @GetMapping("/page")
+    public ResponseEntity getCommentPage(@PathVariable Long recipeId,
+                                         @RequestParam(required = false, value = "size") Integer size,
+                                         @RequestParam(required = false, value = "cursor") String cursor) {
+        CursorPageResponseDto<CommentResponseDto> page;
+        try {
+            page = commentService.getCommentPage(recipeId, size, cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new Response(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+        }
+        return ResponseEntity.ok().body(page);
+    }
+
     /* Update */
     @PatchMapping("/{commentId}")
     public ResponseEntity updateComment(@PathVariable Long recipeId,
@@ -0,0 +1,28 @@
+package com.sparta.igeomubwotna.controller;
+
+import com.sparta.igeomubwotna.service.ExportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/export")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    // 테이블 전체를 NDJSON으로 내보내기, 관리자 계정만 (table: recipes / comments, Accept-Encoding이 gzip을 허용하면 압축해서 전송)
+    @GetMapping("/{table}")
+    public ResponseEntity export(@PathVariable String table,
+                                 @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                 HttpServletRequest request) {
+        return exportService.export(table, AcceptEncoding.acceptsGzip(acceptEncoding), request);
+    }
+}
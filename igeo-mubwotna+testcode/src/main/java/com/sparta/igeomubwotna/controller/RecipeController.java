@@ -1,18 +1,24 @@
 package com.sparta.igeomubwotna.controller;
 
+import com.sparta.igeomubwotna.cache.RecipeResponseBytesCache;
 import com.sparta.igeomubwotna.dto.RecipeRequestDto;
 import com.sparta.igeomubwotna.dto.RecipeResponseDto;
 import com.sparta.igeomubwotna.security.UserDetailsImpl;
+import com.sparta.igeomubwotna.service.RecipeImportService;
 import com.sparta.igeomubwotna.service.RecipeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @Slf4j
@@ -22,6 +28,7 @@ import java.util.List;
 public class RecipeController {
 
     private final RecipeService recipeService;
+    private final RecipeImportService recipeImportService;
 
     @PostMapping("/")
     public ResponseEntity saveRecipe(@Valid @RequestBody RecipeRequestDto requestDto,
@@ -38,9 +45,25 @@ public class RecipeController {
 
     }
 
+    // NDJSON 대량 등록 (한 줄에 {"title": ..., "content": ...} 하나, 줄마다 결과 반환)
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity importRecipes(InputStream body,
+                                        @AuthenticationPrincipal UserDetailsImpl userDetails) throws IOException {
+        return recipeImportService.importRecipes(body, userDetails.getUser());
+    }
+
+    // If-None-Match가 현재 ETag(gzip 응답이면 "-gz"를 붙인 ETag)와 같으면 레시피를 읽지 않고 304
+    // 아니면 같은 버전으로 직렬화해 둔 바이트를 그대로 전송 (Accept-Encoding이 gzip을 허용하면 gzip 바이트)
     @GetMapping("/{recipeId}")
-    public ResponseEntity getRecipe(@PathVariable Long recipeId) {
-        return recipeService.getRecipe(recipeId);
+    public ResponseEntity getRecipe(@PathVariable Long recipeId,
+                                    @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                    WebRequest webRequest) {
+        boolean acceptsGzip = AcceptEncoding.acceptsGzip(acceptEncoding);
+        String eTag = recipeService.getRecipeETag(recipeId);
+        if (eTag != null && webRequest.checkNotModified(cachedETag(eTag, acceptsGzip, webRequest))) {
+            return null;
+        }
+        return recipeService.getRecipe(recipeId, eTag, acceptsGzip);
     }
 
     @PatchMapping("/{recipeId}")
@@ -58,15 +81,59 @@ public class RecipeController {
 
     @GetMapping("/")
     public ResponseEntity getAllRecipe(@RequestParam("page") int page,
-                                       @RequestParam(required = false, defaultValue = "createdAt", value = "sortBy") String sortBy) {
-        return recipeService.getAllRecipe(page - 1, sortBy);
+                                       @RequestParam(required = false, defaultValue = "createdAt", value = "sortBy") String sortBy,
+                                       @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return recipeService.getAllRecipe(page - 1, sortBy, userDetails.getUser());
     }
 
     @GetMapping("/date/")
     public ResponseEntity getDateRecipe(@RequestParam("page") int page,
                                         @RequestParam("startdate") String startDate,
-                                        @RequestParam("enddate") String endDate) {
-        return recipeService.getDateRecipe(page - 1, startDate, endDate);
+                                        @RequestParam("enddate") String endDate,
+                                        @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return recipeService.getDateRecipe(page - 1, startDate, endDate, userDetails.getUser());
+    }
+
+    // 제목 + 본문 검색 (점수 순, 페이지당 10개)
+    @GetMapping("/search")
+    public ResponseEntity searchRecipe(@RequestParam("query") String query,
+                                       @RequestParam(required = false, defaultValue = "1", value = "page") int page,
+                                       @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return recipeService.searchRecipe(query, page - 1, userDetails.getUser());
+    }
+
+    // 제목 자동완성 (prefix로 시작하는 제목, 좋아요 많은 순)
+    @GetMapping("/autocomplete")
+    public ResponseEntity autocompleteTitle(@RequestParam("prefix") String prefix) {
+        return recipeService.autocompleteTitle(prefix);
+    }
+
+    // 인기 급상승 레시피
+    @GetMapping("/trending")
+    public ResponseEntity getTrendingRecipes() {
+        return recipeService.getTrendingRecipes();
+    }
+
+    // 커서 기반 목록 (첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 전달)
+    @GetMapping("/feed")
+    public ResponseEntity getRecipeFeed(@RequestParam(required = false, defaultValue = "createdAt", value = "sortBy") String sortBy,
+                                        @RequestParam(required = false, value = "cursor") String cursor,
+                                        @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return recipeService.getRecipeFeed(sortBy, cursor, userDetails.getUser());
+    }
+
+    @GetMapping("/date/feed")
+    public ResponseEntity getDateRecipeFeed(@RequestParam("startdate") String startDate,
+                                            @RequestParam("enddate") String endDate,
+                                            @RequestParam(required = false, value = "cursor") String cursor,
+                                            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return recipeService.getDateRecipeFeed(startDate, endDate, cursor, userDetails.getUser());
     }
 
+    // 클라이언트가 가진 표현의 ETag (gzip 응답을 받아 둔 클라이언트는 "-gz" ETag로 요청함)
+    private String cachedETag(String eTag, boolean acceptsGzip, WebRequest webRequest) {
+        String gzipETag = RecipeResponseBytesCache.gzipETag(eTag);
+        String ifNoneMatch = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        return acceptsGzip && ifNoneMatch != null && ifNoneMatch.contains(gzipETag) ? gzipETag : eTag;
+    }
 }
@@ -1,6 +1,7 @@
 package com.sparta.igeomubwotna.controller;
 
 import com.sparta.igeomubwotna.dto.*;
+import com.sparta.igeomubwotna.jwt.JwtUtil;
 import com.sparta.igeomubwotna.security.UserDetailsImpl;
 import com.sparta.igeomubwotna.service.UserService;
 import jakarta.validation.Valid;
@@ -36,8 +37,10 @@ public class UserController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<Response> logout(@AuthenticationPrincipal UserDetailsImpl userDetails) {
-        return userService.logout(userDetails.getUser().getId());
+    public ResponseEntity<Response> logout(@RequestHeader(value = JwtUtil.DEVICE_HEADER, required = false) String deviceId,
+                                           @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        // 요청한 기기만 로그아웃
+        return userService.logout(userDetails.getUser().getId(), JwtUtil.resolveDeviceId(deviceId));
     }
 
     @PatchMapping("/withdraw")
@@ -0,0 +1,70 @@
+package com.sparta.igeomubwotna.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 대상(레시피 / 댓글) id별로 아직 DB에 반영되지 않은 좋아요 증감분
+// 쓰기는 LongAdder에 더하기만 하므로 같은 레시피에 요청이 몰려도 락을 잡지 않음
+public class LikeCountBuffer {
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // drain 이후 DB 반영이 끝나기 전까지의 증감분 (이 동안에도 조회 결과에 포함되도록 보관)
+    private final ConcurrentHashMap<Long, Long> inFlight = new ConcurrentHashMap<>();
+
+    public void add(Long id, long delta) {
+        LongAdder adder = pending.computeIfAbsent(id, key -> new LongAdder());
+        adder.add(delta);
+
+        // 더하는 사이에 drain이 이 adder를 꺼내 갔다면, drain이 읽지 못했을 수 있는 값을 현재 adder로 옮김
+        // (sumThenReset은 셀 단위로 getAndSet 하므로 drain과 동시에 실행되어도 같은 값을 두 번 가져가지 않음)
+        if (pending.get(id) != adder) {
+            long late = adder.sumThenReset();
+            if (late != 0) {
+                add(id, late);
+            }
+        }
+    }
+
+    // DB에 반영되지 않은 증감분 (조회 시 DB 값에 더해서 사용)
+    public long pending(Long id) {
+        LongAdder adder = pending.get(id);
+        long sum = adder == null ? 0L : adder.sum();
+        return sum + inFlight.getOrDefault(id, 0L);
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    // 쌓인 증감분을 꺼내서 반환 (한 번에 하나의 flush만 호출해야 함)
+    public Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long id : pending.keySet()) {
+            LongAdder adder = pending.remove(id);
+            if (adder == null) {
+                continue;
+            }
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.merge(id, delta, Long::sum);
+                inFlight.merge(id, delta, Long::sum);
+            }
+        }
+        return deltas;
+    }
+
+    // DB 반영이 커밋된 뒤 호출
+    public void complete(Map<Long, Long> deltas) {
+        deltas.keySet().forEach(inFlight::remove);
+    }
+
+    // DB 반영에 실패하면 다음 flush에서 다시 시도하도록 되돌림
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach((id, delta) -> {
+            add(id, delta);
+            inFlight.remove(id);
+        });
+    }
+}
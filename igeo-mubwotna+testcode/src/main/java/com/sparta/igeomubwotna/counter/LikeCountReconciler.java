@@ -0,0 +1,319 @@
+package com.sparta.igeomubwotna.counter;
+
+import com.sparta.igeomubwotna.event.RecipeChangedEvent;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// recipe.recipe_likes / comment.like_count를 recipe_likes / comment_likes의 실제 행 수와 비교해서 틀어진 값만 보정
+// - id 범위를 chunk-size 단위로 나눠 ForkJoinPool에서 병렬로 비교
+// - 동시에 쓰는 DB 커넥션은 커넥션 풀의 connection-share 비율까지만 사용
+// - chunks-per-window 만큼 끝날 때마다 다음 시작 id를 like_reconcile_checkpoint에 기록해서 중단되어도 이어서 실행
+// 좋아요 수는 LikeCounter가 모아서 반영하므로, 차이가 난 행은 settle-ms만큼 두 번 기다리며 다시 비교해서
+// 두 번 모두 차이가 그대로인 경우에만 보정 (settle-ms는 실패한 반영이 다시 시도되는 flush 주기의 두 배 이상으로 맞춤)
+// 아직 반영되지 않은 증감분(pending)은 이 서버의 LikeCounter 것만 보이므로 like.reconcile.enabled는 서버 한 대에서만 켤 것
+// (다른 서버의 증감분은 settle 동안 반영되기를 기다리는 것으로만 구분)
+// 꺼져 있으면 빈을 만들지 않으므로 like_reconcile_checkpoint 테이블도 만들지 않음
+@Slf4j(topic = "LikeCountReconciler")
+@Component
+@ConditionalOnProperty(name = "like.reconcile.enabled", havingValue = "true")
+public class LikeCountReconciler {
+
+    // Hikari 기본 최대 커넥션 수 (다른 DataSource인 경우 기준값으로 사용)
+    private static final int DEFAULT_POOL_SIZE = 10;
+    private static final int RECHECK_BATCH = 500;
+    // 보정 전 다시 비교하는 횟수
+    private static final int RECHECKS = 2;
+
+    enum Target {
+        RECIPE("recipe", "recipe_likes", "recipe_likes", "recipe_id"),
+        COMMENT("comment", "like_count", "comment_likes", "comment_id");
+
+        private final String table;
+        private final String counterColumn;
+        private final String likeTable;
+        private final String likeColumn;
+
+        Target(String table, String counterColumn, String likeTable, String likeColumn) {
+            this.table = table;
+            this.counterColumn = counterColumn;
+            this.likeTable = likeTable;
+            this.likeColumn = likeColumn;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LikeCounter likeCounter;
+    private final ShardedLikeStore shardedLikeStore;
+    private final int chunkSize;
+    private final int chunksPerWindow;
+    private final long settleMillis;
+    private final int maxConnections;
+    private final Semaphore connectionPermits;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Map<Target, AtomicLong> checkpoints = new EnumMap<>(Target.class);
+    private final Map<Target, AtomicLong> maxIds = new EnumMap<>(Target.class);
+    private final Map<Target, Counter> scannedChunks = new EnumMap<>(Target.class);
+    private final Map<Target, Counter> corrections = new EnumMap<>(Target.class);
+
+    public LikeCountReconciler(JdbcTemplate jdbcTemplate, DataSource dataSource, PlatformTransactionManager transactionManager,
+                               ApplicationEventPublisher eventPublisher, LikeCounter likeCounter,
+                               ShardedLikeStore shardedLikeStore, MeterRegistry meterRegistry,
+                               @Value("${like.reconcile.chunk-size}") int chunkSize,
+                               @Value("${like.reconcile.chunks-per-window}") int chunksPerWindow,
+                               @Value("${like.reconcile.settle-ms}") long settleMillis,
+                               @Value("${like.reconcile.connection-share}") double connectionShare,
+                               @Value("${like.counter.flush-interval-ms}") long flushIntervalMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.likeCounter = likeCounter;
+        this.shardedLikeStore = shardedLikeStore;
+        this.chunkSize = chunkSize;
+        this.chunksPerWindow = chunksPerWindow;
+        this.settleMillis = Math.max(settleMillis, flushIntervalMillis * 2);
+
+        int poolSize = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+        this.maxConnections = Math.max(1, (int) Math.floor(poolSize * connectionShare));
+        this.connectionPermits = new Semaphore(maxConnections);
+
+        for (Target target : Target.values()) {
+            String name = target.name().toLowerCase();
+            checkpoints.put(target, new AtomicLong());
+            maxIds.put(target, new AtomicLong());
+            scannedChunks.put(target, Counter.builder("like.reconcile.chunks").tag("target", name).register(meterRegistry));
+            corrections.put(target, Counter.builder("like.reconcile.corrections").tag("target", name).register(meterRegistry));
+            // 진행률 = checkpoint / max.id
+            Gauge.builder("like.reconcile.checkpoint", checkpoints.get(target), AtomicLong::get).tag("target", name)
+                    .register(meterRegistry);
+            Gauge.builder("like.reconcile.max.id", maxIds.get(target), AtomicLong::get).tag("target", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    @PostConstruct
+    public void createTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS like_reconcile_checkpoint (" +
+                "target VARCHAR(16) NOT NULL PRIMARY KEY, " +
+                "next_id BIGINT NOT NULL, " +
+                "updated_at DATETIME NOT NULL)");
+    }
+
+    @Scheduled(cron = "${like.reconcile.cron}")
+    public void scheduledRun() {
+        run();
+    }
+
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("좋아요 수 보정 작업이 이미 실행 중");
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(maxConnections);
+        try {
+            for (Target target : Target.values()) {
+                reconcile(target, pool);
+            }
+        } finally {
+            pool.shutdown();
+            running.set(false);
+        }
+    }
+
+    private void reconcile(Target target, ForkJoinPool pool) {
+        long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + target.table, Long.class);
+        maxIds.get(target).set(maxId);
+
+        long from = loadCheckpoint(target);
+        log.info("{} 좋아요 수 보정 시작: id {} ~ {}", target, from, maxId);
+
+        while (from <= maxId) {
+            long to = Math.min(from + (long) chunkSize * chunksPerWindow, maxId + 1);
+
+            Map<Long, Long> candidates = new ConcurrentHashMap<>();
+            pool.invoke(new ScanTask(target, from, to, candidates));
+            for (int i = 0; i < RECHECKS && !candidates.isEmpty(); i++) {
+                settle();
+                candidates = recheck(target, candidates);
+            }
+            if (!candidates.isEmpty()) {
+                correct(target, candidates);
+            }
+
+            saveCheckpoint(target, to);
+            from = to;
+        }
+
+        // 한 바퀴를 모두 돌았으면 다음 실행은 처음부터
+        jdbcTemplate.update("DELETE FROM like_reconcile_checkpoint WHERE target = ?", target.name());
+        checkpoints.get(target).set(maxId + 1);
+        log.info("{} 좋아요 수 보정 완료", target);
+    }
+
+    // id 범위를 chunk-size 이하가 될 때까지 나눠서 병렬 비교
+    private class ScanTask extends RecursiveAction {
+        private final Target target;
+        private final long from;
+        private final long to;
+        private final Map<Long, Long> candidates;
+
+        ScanTask(Target target, long from, long to, Map<Long, Long> candidates) {
+            this.target = target;
+            this.from = from;
+            this.to = to;
+            this.candidates = candidates;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                scanChunk(target, from, to, candidates);
+                return;
+            }
+            long middle = from + (to - from) / 2;
+            invokeAll(new ScanTask(target, from, middle, candidates), new ScanTask(target, middle, to, candidates));
+        }
+    }
+
+    private void scanChunk(Target target, long from, long to, Map<Long, Long> candidates) {
+        Map<Long, Long> diffs = withConnectionPermit(() -> findDiffs(target, "t.id >= ? AND t.id < ?", List.of(from, to)));
+        diffs.forEach((id, diff) -> {
+            // 이 서버에서 아직 반영하지 않은 증감분이 있으면 차이가 나는 것이 정상이므로 제외
+            if (pending(target, id) == 0) {
+                candidates.put(id, diff);
+            }
+        });
+        scannedChunks.get(target).increment();
+    }
+
+    // 다시 비교해서 차이가 처음과 같은 행만 남김 (그 사이 반영된 증감분 때문에 생긴 차이는 제외)
+    private Map<Long, Long> recheck(Target target, Map<Long, Long> candidates) {
+        Map<Long, Long> unchanged = new HashMap<>();
+        List<Long> ids = new ArrayList<>(candidates.keySet());
+        for (int i = 0; i < ids.size(); i += RECHECK_BATCH) {
+            List<Long> batch = ids.subList(i, Math.min(i + RECHECK_BATCH, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(batch.size(), "?"));
+            Map<Long, Long> rechecked = withConnectionPermit(
+                    () -> findDiffs(target, "t.id IN (" + placeholders + ")", new ArrayList<>(batch)));
+
+            rechecked.forEach((id, diff) -> {
+                if (diff.equals(candidates.get(id)) && pending(target, id) == 0) {
+                    unchanged.put(id, diff);
+                }
+            });
+        }
+        return unchanged;
+    }
+
+    private void correct(Target target, Map<Long, Long> diffs) {
+        List<Object[]> rows = new ArrayList<>(diffs.size());
+        diffs.forEach((id, diff) -> rows.add(new Object[]{diff, id}));
+        for (int i = 0; i < rows.size(); i += RECHECK_BATCH) {
+            List<Object[]> args = rows.subList(i, Math.min(i + RECHECK_BATCH, rows.size()));
+            withConnectionPermit(() -> {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.batchUpdate("UPDATE " + target.table + " SET " + target.counterColumn
+                            + " = COALESCE(" + target.counterColumn + ", 0) + ? WHERE id = ?", args);
+                    if (target == Target.RECIPE) {
+                        args.forEach(row -> eventPublisher.publishEvent(
+                                new RecipeChangedEvent((Long) row[1], RecipeChangedEvent.Type.LIKED)));
+                    }
+                });
+                return null;
+            });
+            corrections.get(target).increment(args.size());
+            log.info("{} 좋아요 수 {}건 보정", target, args.size());
+        }
+    }
+
+    // id -> (실제 좋아요 행 수 - 저장된 좋아요 수), 차이가 있는 행만
+    private Map<Long, Long> findDiffs(Target target, String idCondition, List<Object> params) {
+        String stored = "COALESCE(t." + target.counterColumn + ", 0)";
+        if (target == Target.RECIPE && shardedLikeStore.isEnabled()) {
+            stored += " + COALESCE((SELECT SUM(s.delta) FROM recipe_like_slot s WHERE s.recipe_id = t.id), 0)";
+        }
+        String sql = "SELECT x.id, x.actual - x.stored AS diff FROM (" +
+                "SELECT t.id, " + stored + " AS stored, " +
+                "(SELECT COUNT(*) FROM " + target.likeTable + " l WHERE l." + target.likeColumn + " = t.id) AS actual " +
+                "FROM " + target.table + " t WHERE " + idCondition +
+                ") x WHERE x.stored <> x.actual";
+
+        Map<Long, Long> diffs = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            diffs.put(rs.getLong("id"), rs.getLong("diff"));
+        }, params.toArray());
+        return diffs;
+    }
+
+    private long pending(Target target, Long id) {
+        return target == Target.RECIPE ? likeCounter.getPendingRecipeLikes(id) : likeCounter.getPendingCommentLikes(id);
+    }
+
+    private long loadCheckpoint(Target target) {
+        List<Long> nextIds = jdbcTemplate.queryForList(
+                "SELECT next_id FROM like_reconcile_checkpoint WHERE target = ?", Long.class, target.name());
+        long nextId = nextIds.isEmpty() ? 0L : nextIds.get(0);
+        checkpoints.get(target).set(nextId);
+        return nextId;
+    }
+
+    private void saveCheckpoint(Target target, long nextId) {
+        Timestamp now = Timestamp.from(Instant.now());
+        int updated = jdbcTemplate.update("UPDATE like_reconcile_checkpoint SET next_id = ?, updated_at = ? WHERE target = ?",
+                nextId, now, target.name());
+        if (updated == 0) {
+            jdbcTemplate.update("INSERT INTO like_reconcile_checkpoint (target, next_id, updated_at) VALUES (?, ?, ?)",
+                    target.name(), nextId, now);
+        }
+        checkpoints.get(target).set(nextId);
+    }
+
+    private void settle() {
+        try {
+            Thread.sleep(settleMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("좋아요 수 보정 작업이 중단되었습니다.", e);
+        }
+    }
+
+    private <T> T withConnectionPermit(Supplier<T> action) {
+        connectionPermits.acquireUninterruptibly();
+        try {
+            return action.get();
+        } finally {
+            connectionPermits.release();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.sparta.igeomubwotna.counter;
+
+import com.sparta.igeomubwotna.entity.Comment;
+import com.sparta.igeomubwotna.entity.Recipe;
+import com.sparta.igeomubwotna.event.RecipeChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 레시피 / 댓글 좋아요 수를 메모리에 모아 두었다가 주기적으로 DB에 한 번에 반영 (write-behind)
+// 요청 트랜잭션에서는 recipe / comment 행을 읽고 고치지 않으므로 좋아요가 몰려도 행 락을 기다리지 않음
+// 조회 시에는 DB 값 + 아직 반영되지 않은 증감분을 돌려줌
+// 좋아요가 몰리는 레시피는 ShardedLikeStore의 슬롯 행에 나눠서 반영
+@Slf4j(topic = "LikeCounter")
+@Component
+public class LikeCounter {
+
+    private static final String RECIPE_UPDATE_SQL =
+            "UPDATE recipe SET recipe_likes = COALESCE(recipe_likes, 0) + ? WHERE id = ?";
+    private static final String COMMENT_UPDATE_SQL =
+            "UPDATE comment SET like_count = COALESCE(like_count, 0) + ? WHERE id = ?";
+
+    private final LikeCountBuffer recipeLikes = new LikeCountBuffer();
+    private final LikeCountBuffer commentLikes = new LikeCountBuffer();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShardedLikeStore shardedLikeStore;
+
+    public LikeCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                       ApplicationEventPublisher eventPublisher, ShardedLikeStore shardedLikeStore,
+                       MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.shardedLikeStore = shardedLikeStore;
+
+        Gauge.builder("like.counter.pending", recipeLikes, LikeCountBuffer::size).tag("target", "recipe")
+                .register(meterRegistry);
+        Gauge.builder("like.counter.pending", commentLikes, LikeCountBuffer::size).tag("target", "comment")
+                .register(meterRegistry);
+    }
+
+    public void addRecipeLike(Long recipeId, long delta) {
+        afterCommit(() -> {
+            recipeLikes.add(recipeId, delta);
+            shardedLikeStore.recordLikeRequest(recipeId);
+        });
+    }
+
+    public void addCommentLike(Long commentId, long delta) {
+        afterCommit(() -> commentLikes.add(commentId, delta));
+    }
+
+    public long getRecipeLikes(Recipe recipe) {
+        return getRecipeLikes(recipe.getId(), recipe.getRecipeLikes());
+    }
+
+    // recipe_likes 값(persistedLikes) + 슬롯에 쌓인 값 + 아직 반영되지 않은 증감분
+    public long getRecipeLikes(Long recipeId, Long persistedLikes) {
+        return persisted(persistedLikes) + shardedLikeStore.getSlotSum(recipeId) + recipeLikes.pending(recipeId);
+    }
+
+    public long getCommentLikes(Comment comment) {
+        return getCommentLikes(comment.getId(), comment.getLikeCount());
+    }
+
+    // like_count 값(persistedLikes) + 아직 반영되지 않은 증감분
+    public long getCommentLikes(Long commentId, Long persistedLikes) {
+        return persisted(persistedLikes) + commentLikes.pending(commentId);
+    }
+
+    public long getPendingRecipeLikes(Long recipeId) {
+        return recipeLikes.pending(recipeId);
+    }
+
+    public long getPendingCommentLikes(Long commentId) {
+        return commentLikes.pending(commentId);
+    }
+
+    // 레시피 / 댓글마다 쌓인 증감분을 하나로 합쳐서 UPDATE ... SET x = x + ? 배치로 반영
+    @Scheduled(fixedDelayString = "${like.counter.flush-interval-ms}")
+    @PreDestroy
+    public synchronized void flush() {
+        shardedLikeStore.promoteHotRecipes();
+
+        Map<Long, Long> recipeDeltas = recipeLikes.drain();
+        Map<Long, Long> commentDeltas = commentLikes.drain();
+        if (recipeDeltas.isEmpty() && commentDeltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<Long, Long> rowDeltas = new HashMap<>();
+                Map<Long, Long> slotDeltas = new HashMap<>();
+                recipeDeltas.forEach((recipeId, delta) ->
+                        (shardedLikeStore.isSharded(recipeId) ? slotDeltas : rowDeltas).put(recipeId, delta));
+                if (!slotDeltas.isEmpty()) {
+                    rowDeltas.putAll(shardedLikeStore.increment(slotDeltas));
+                }
+
+                batchUpdate(RECIPE_UPDATE_SQL, rowDeltas);
+                batchUpdate(COMMENT_UPDATE_SQL, commentDeltas);
+                // 캐시된 레시피 응답은 반영된 값으로 다시 만들도록 커밋 후 제거 (슬롯 모드 레시피는 recipe_likes가 그대로라 제외)
+                rowDeltas.keySet().forEach(recipeId ->
+                        eventPublisher.publishEvent(new RecipeChangedEvent(recipeId, RecipeChangedEvent.Type.LIKED)));
+            });
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 반영 실패, 다음 주기에 다시 시도: {}", e.getMessage());
+            recipeLikes.restore(recipeDeltas);
+            commentLikes.restore(commentDeltas);
+            return;
+        }
+
+        recipeLikes.complete(recipeDeltas);
+        commentLikes.complete(commentDeltas);
+    }
+
+    private void batchUpdate(String sql, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> args.add(new Object[]{delta, id}));
+        jdbcTemplate.batchUpdate(sql, args);
+    }
+
+    // 좋아요 행 저장이 롤백되면 카운터에도 반영하지 않음
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private long persisted(Long value) {
+        return value == null ? 0L : value;
+    }
+}
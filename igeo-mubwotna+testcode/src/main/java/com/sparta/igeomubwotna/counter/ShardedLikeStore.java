@@ -0,0 +1,246 @@
+package com.sparta.igeomubwotna.counter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.igeomubwotna.event.RecipeChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// 좋아요가 몰리는 레시피의 좋아요 수를 recipe 행 하나 대신 recipe_like_slot의 슬롯 행 N개에 나눠서 기록
+// 여러 서버가 같은 레시피에 좋아요를 반영해도 recipe 행 하나에 락이 몰리지 않음
+// - 쓰기: 임의의 슬롯 하나에 delta = delta + ?
+// - 읽기: recipe_likes + 슬롯 합계 (슬롯 합계는 read-cache-ms 동안 캐시)
+// - 좋아요 빈도가 promote-rate-per-second를 넘은 레시피는 자동으로 슬롯 모드로 전환
+// - 슬롯에 쌓인 값은 주기적으로 recipe_likes에 합쳐서 정렬(좋아요 많은 순)에도 반영
+// - 합칠 때 demote-idle-consolidations번 연속으로 슬롯이 비어 있던 레시피는 슬롯 행을 지우고 다시 recipe 행에 기록
+//   (레시피가 삭제되었을 때도 슬롯 행을 지움)
+@Slf4j(topic = "ShardedLikeStore")
+@Component
+public class ShardedLikeStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int slots;
+    private final double promoteRatePerSecond;
+    private final int demoteIdleConsolidations;
+
+    // 슬롯 모드로 전환된 레시피 (다른 서버가 전환 / 해제한 레시피는 refresh에서 반영)
+    private final Set<Long> shardedRecipeIds = ConcurrentHashMap.newKeySet();
+    // 레시피별로 합칠 값 없이 연속으로 지나간 consolidate 횟수
+    private final ConcurrentHashMap<Long, Integer> idleConsolidations = new ConcurrentHashMap<>();
+    // 마지막 확인 이후 레시피별 좋아요 / 취소 요청 수
+    private final ConcurrentHashMap<Long, LongAdder> likeRequests = new ConcurrentHashMap<>();
+    private final Cache<Long, Long> slotSums;
+    private volatile long rateWindowStartedAt = System.nanoTime();
+
+    public ShardedLikeStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${like.shard.enabled}") boolean enabled,
+                            @Value("${like.shard.slots}") int slots,
+                            @Value("${like.shard.promote-rate-per-second}") double promoteRatePerSecond,
+                            @Value("${like.shard.read-cache-ms}") long readCacheMs,
+                            @Value("${like.shard.demote-idle-consolidations}") int demoteIdleConsolidations) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.slots = slots;
+        this.promoteRatePerSecond = promoteRatePerSecond;
+        this.demoteIdleConsolidations = demoteIdleConsolidations;
+        this.slotSums = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(readCacheMs))
+                .maximumSize(10_000)
+                .build();
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS recipe_like_slot (" +
+                "recipe_id BIGINT NOT NULL, " +
+                "slot INT NOT NULL, " +
+                "delta BIGINT NOT NULL, " +
+                "PRIMARY KEY (recipe_id, slot))");
+        refresh();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isSharded(Long recipeId) {
+        return enabled && shardedRecipeIds.contains(recipeId);
+    }
+
+    public void recordLikeRequest(Long recipeId) {
+        if (enabled) {
+            likeRequests.computeIfAbsent(recipeId, key -> new LongAdder()).increment();
+        }
+    }
+
+    // 슬롯에 쌓였지만 아직 recipe_likes에 합쳐지지 않은 값
+    public long getSlotSum(Long recipeId) {
+        if (!isSharded(recipeId)) {
+            return 0L;
+        }
+        return slotSums.get(recipeId, key -> jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(delta), 0) FROM recipe_like_slot WHERE recipe_id = ?", Long.class, key));
+    }
+
+    // 직전 확인 이후 좋아요 빈도가 기준을 넘은 레시피를 슬롯 모드로 전환 (LikeCounter.flush에서 호출)
+    public void promoteHotRecipes() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        double elapsedSeconds = Math.max(now - rateWindowStartedAt, 1L) / 1_000_000_000.0;
+        rateWindowStartedAt = now;
+
+        for (Long recipeId : likeRequests.keySet()) {
+            LongAdder requests = likeRequests.remove(recipeId);
+            if (requests == null || shardedRecipeIds.contains(recipeId)) {
+                continue;
+            }
+            double rate = requests.sum() / elapsedSeconds;
+            if (rate >= promoteRatePerSecond) {
+                promote(recipeId);
+                log.info("레시피 {} 좋아요 슬롯 모드 전환 ({}회/초)", recipeId, Math.round(rate));
+            }
+        }
+    }
+
+    // 슬롯 행을 미리 만들어 두고 전환 (다른 서버가 먼저 만든 슬롯은 그대로 사용)
+    public void promote(Long recipeId) {
+        for (int slot = 0; slot < slots; slot++) {
+            try {
+                jdbcTemplate.update("INSERT INTO recipe_like_slot (recipe_id, slot, delta) VALUES (?, ?, 0)", recipeId, slot);
+            } catch (DuplicateKeyException e) {
+                // 이미 있는 슬롯
+            }
+        }
+        shardedRecipeIds.add(recipeId);
+    }
+
+    // 레시피마다 임의의 슬롯 하나에 증감분을 더함 (호출하는 쪽 트랜잭션 안에서 실행)
+    // 슬롯 행이 없어서 반영되지 않은 증감분은 반환해서 recipe 행에 반영하도록 함
+    public Map<Long, Long> increment(Map<Long, Long> deltas) {
+        List<Long> recipeIds = new ArrayList<>(deltas.keySet());
+        List<Object[]> args = new ArrayList<>(recipeIds.size());
+        for (Long recipeId : recipeIds) {
+            args.add(new Object[]{deltas.get(recipeId), recipeId, ThreadLocalRandom.current().nextInt(slots)});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(
+                "UPDATE recipe_like_slot SET delta = delta + ? WHERE recipe_id = ? AND slot = ?", args);
+
+        Map<Long, Long> missed = new HashMap<>();
+        for (int i = 0; i < updated.length; i++) {
+            // 드라이버가 건수를 주지 않는 경우(SUCCESS_NO_INFO)는 반영된 것으로 봄
+            if (updated[i] == 0) {
+                missed.put(recipeIds.get(i), deltas.get(recipeIds.get(i)));
+            } else {
+                slotSums.invalidate(recipeIds.get(i));
+            }
+        }
+        return missed;
+    }
+
+    // 슬롯 행이 있는 레시피만 슬롯 모드로 봄 (다른 서버가 전환 / 해제한 레시피 반영)
+    @Scheduled(fixedDelayString = "${like.shard.refresh-interval-ms}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        List<Long> recipeIds = jdbcTemplate.queryForList("SELECT DISTINCT recipe_id FROM recipe_like_slot", Long.class);
+        shardedRecipeIds.retainAll(new HashSet<>(recipeIds));
+        shardedRecipeIds.addAll(recipeIds);
+    }
+
+    // 슬롯 합계를 recipe_likes로 옮기고 슬롯을 0으로 (슬롯 행을 잠근 상태에서 옮기므로 동시에 더해지는 값은 기다렸다가 반영)
+    // 좋아요가 뜸해진 레시피와 삭제된 레시피는 슬롯 행을 지우고 슬롯 모드 해제
+    // (지운 뒤 들어오는 증감분은 increment에서 반영되지 않은 것으로 돌려주므로 recipe 행에 반영됨)
+    @Scheduled(fixedDelayString = "${like.shard.consolidate-interval-ms}")
+    public void consolidate() {
+        if (!enabled) {
+            return;
+        }
+        for (Long recipeId : shardedRecipeIds) {
+            Boolean demoted = transactionTemplate.execute(status -> {
+                List<Long> deltas = jdbcTemplate.queryForList(
+                        "SELECT delta FROM recipe_like_slot WHERE recipe_id = ? FOR UPDATE", Long.class, recipeId);
+                if (deltas.isEmpty()) {
+                    // 다른 서버가 이미 해제
+                    return true;
+                }
+                long sum = deltas.stream().mapToLong(Long::longValue).sum();
+                if (sum == 0L) {
+                    if (idleConsolidations.merge(recipeId, 1, Integer::sum) < demoteIdleConsolidations) {
+                        return false;
+                    }
+                    deleteSlots(recipeId);
+                    return true;
+                }
+                idleConsolidations.remove(recipeId);
+                int updated = jdbcTemplate.update(
+                        "UPDATE recipe SET recipe_likes = COALESCE(recipe_likes, 0) + ? WHERE id = ?", sum, recipeId);
+                if (updated == 0) {
+                    // 다른 서버에서 삭제된 레시피
+                    deleteSlots(recipeId);
+                    return true;
+                }
+                jdbcTemplate.update("UPDATE recipe_like_slot SET delta = 0 WHERE recipe_id = ?", recipeId);
+                eventPublisher.publishEvent(new RecipeChangedEvent(recipeId, RecipeChangedEvent.Type.LIKED));
+                return false;
+            });
+            if (Boolean.TRUE.equals(demoted)) {
+                demote(recipeId);
+                log.info("레시피 {} 좋아요 슬롯 모드 해제", recipeId);
+            }
+            slotSums.invalidate(recipeId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (!enabled || event.getType() != RecipeChangedEvent.Type.DELETED) {
+            return;
+        }
+        deleteSlots(event.getRecipeId());
+        demote(event.getRecipeId());
+        likeRequests.remove(event.getRecipeId());
+        slotSums.invalidate(event.getRecipeId());
+    }
+
+    private void deleteSlots(Long recipeId) {
+        jdbcTemplate.update("DELETE FROM recipe_like_slot WHERE recipe_id = ?", recipeId);
+    }
+
+    private void demote(Long recipeId) {
+        shardedRecipeIds.remove(recipeId);
+        idleConsolidations.remove(recipeId);
+    }
+}
@@ -22,12 +22,22 @@ public class CommentResponseDto {
     }
 
     public static CommentResponseDto toDto(Comment comment) {
+        return toDto(comment, comment.getUser().getUserId());
+    }
+
+    // 작성자 userId를 AuthorResolver로 미리 조회한 경우
+    public static CommentResponseDto toDto(Comment comment, String userId) {
+        return toDto(comment, userId, comment.getLikeCount());
+    }
+
+    // 좋아요 수는 DB 값에 아직 반영되지 않은 증감분을 더한 값 (LikeCounter)
+    public static CommentResponseDto toDto(Comment comment, String userId, Long likeCount) {
         return new CommentResponseDto(
                 comment.getId(),
                 comment.getContent(),
-                comment.getUser().getUserId(),
+                userId,
                 comment.getCreatedAt(),
-                comment.getLikeCount()
+                likeCount
         );
     }
 }
@@ -0,0 +1,23 @@
+package com.sparta.igeomubwotna.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 댓글 목록 ETag 계산용 (레시피의 댓글 전체를 집계한 한 행)
+// 추가 / 삭제는 count와 maxId, 수정은 maxModifiedAt, 좋아요 반영은 likeCount 합계가 바뀜
+// 댓글이 없으면 count만 0이고 나머지는 null
+@Getter
+public class CommentVersionDto {
+    private final Long count;
+    private final Long maxId;
+    private final LocalDateTime maxModifiedAt;
+    private final Long likeCount;
+
+    public CommentVersionDto(Long count, Long maxId, LocalDateTime maxModifiedAt, Long likeCount) {
+        this.count = count;
+        this.maxId = maxId;
+        this.maxModifiedAt = maxModifiedAt;
+        this.likeCount = likeCount;
+    }
+}
@@ -0,0 +1,19 @@
+package com.sparta.igeomubwotna.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// 커서 기반 목록 응답 (nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회)
+@Getter
+public class CursorPageResponseDto<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public CursorPageResponseDto(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.sparta.igeomubwotna.dto;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 커서 기반 목록의 이어보기 토큰
+// (정렬 기준, 마지막 행의 정렬 값, 마지막 행의 id)를 Base64로 감싸서 클라이언트에는 불투명한 문자열로 전달
+@Getter
+public class FeedCursor {
+    private static final String DELIMITER = "|";
+
+    private final String sort;
+    private final String value;
+    private final Long id;
+
+    public FeedCursor(String sort, Object value, Long id) {
+        this.sort = sort;
+        this.value = String.valueOf(value);
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = sort + DELIMITER + value + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 다른 정렬 기준으로 만들어진 커서나 변조된 커서는 거부
+    public static FeedCursor decode(String token, String expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !parts[0].equals(expectedSort)) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new FeedCursor(parts[0], parts[1], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public LocalDateTime dateValue() {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public long longValue() {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.sparta.igeomubwotna.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+import java.util.List;
+
+// NDJSON 대량 등록 결과 (줄마다 저장된 레시피 id 또는 실패 사유)
+@Getter
+public class RecipeImportResultDto {
+    private final int total;
+    private final int imported;
+    private final int failed;
+    private final long elapsedMs;
+    private final double recipesPerSecond;
+    private final List<LineResult> results;
+
+    public RecipeImportResultDto(List<LineResult> results, long elapsedNanos) {
+        this.total = results.size();
+        this.imported = (int) results.stream().filter(LineResult::isImported).count();
+        this.failed = this.total - this.imported;
+        this.elapsedMs = elapsedNanos / 1_000_000;
+        this.recipesPerSecond = elapsedNanos == 0 ? 0 : Math.round(imported / (elapsedNanos / 1_000_000_000.0) * 10) / 10.0;
+        this.results = results;
+    }
+
+    @Getter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class LineResult {
+        // 요청 본문의 줄 번호 (1부터)
+        private final int line;
+        private final Long recipeId;
+        private final String error;
+
+        private LineResult(int line, Long recipeId, String error) {
+            this.line = line;
+            this.recipeId = recipeId;
+            this.error = error;
+        }
+
+        public static LineResult imported(int line, Long recipeId) {
+            return new LineResult(line, recipeId, null);
+        }
+
+        public static LineResult failed(int line, String error) {
+            return new LineResult(line, null, error);
+        }
+
+        public boolean isImported() {
+            return recipeId != null;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.sparta.igeomubwotna.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.sparta.igeomubwotna.entity.Recipe;
 import lombok.Getter;
 
@@ -8,18 +9,62 @@ import java.time.LocalDateTime;
 @Getter
 public class RecipeResponseDto {
     String title;
+    // 목록 조회(RecipeSummaryDto)에서는 본문을 읽지 않으므로 생략
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     String content;
     String userId;
     Long recipeLikes;
     LocalDateTime createdAt;
     LocalDateTime modifiedAt;
+    // 목록 조회에서 로그인한 사용자가 좋아요를 눌렀는지 (단건 조회에서는 생략)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Boolean likedByMe;
 
     public RecipeResponseDto(Recipe recipe) {
+        this(recipe, recipe.getUser().getUserId());
+    }
+
+    // 목록 조회에서는 작성자 userId를 AuthorResolver로 한 번에 조회해서 전달 (User 프록시 초기화 방지)
+    public RecipeResponseDto(Recipe recipe, String userId) {
+        this(recipe, userId, recipe.getRecipeLikes());
+    }
+
+    // 좋아요 수는 DB 값에 아직 반영되지 않은 증감분을 더한 값 (LikeCounter)
+    public RecipeResponseDto(Recipe recipe, String userId, Long recipeLikes) {
         this.title = recipe.getTitle();
         this.content = recipe.getContent();
-        this.userId = recipe.getUser().getUserId();
-        this.recipeLikes = recipe.getRecipeLikes();
+        this.userId = userId;
+        this.recipeLikes = recipeLikes;
         this.createdAt = recipe.getCreatedAt();
         this.modifiedAt = recipe.getModifiedAt();
     }
+
+    // 목록 조회용 (본문 없음)
+    public RecipeResponseDto(RecipeSummaryDto summary, String userId, Long recipeLikes) {
+        this.title = summary.getTitle();
+        this.userId = userId;
+        this.recipeLikes = recipeLikes;
+        this.createdAt = summary.getCreatedAt();
+        this.modifiedAt = summary.getModifiedAt();
+    }
+
+    // 캐시된 응답에 현재 좋아요 수만 바꿔서 반환할 때 사용
+    public RecipeResponseDto withRecipeLikes(Long recipeLikes) {
+        RecipeResponseDto copy = new RecipeResponseDto();
+        copy.title = this.title;
+        copy.content = this.content;
+        copy.userId = this.userId;
+        copy.recipeLikes = recipeLikes;
+        copy.createdAt = this.createdAt;
+        copy.modifiedAt = this.modifiedAt;
+        copy.likedByMe = this.likedByMe;
+        return copy;
+    }
+
+    public void setLikedByMe(Boolean likedByMe) {
+        this.likedByMe = likedByMe;
+    }
+
+    private RecipeResponseDto() {
+    }
 }
@@ -0,0 +1,26 @@
+package com.sparta.igeomubwotna.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 목록 조회용 레시피 요약 (content 없이 필요한 컬럼만 조회하는 JPQL 생성자 표현식에서 사용)
+@Getter
+public class RecipeSummaryDto {
+    private final Long id;
+    private final String title;
+    private final Long userPk;
+    private final Long recipeLikes;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public RecipeSummaryDto(Long id, String title, Long userPk, Long recipeLikes,
+                            LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.userPk = userPk;
+        this.recipeLikes = recipeLikes;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+}
@@ -0,0 +1,17 @@
+package com.sparta.igeomubwotna.dto;
+
+import lombok.Getter;
+
+// 제목 자동완성 항목
+@Getter
+public class RecipeTitleSuggestionDto {
+    private Long id;
+    private String title;
+    private Long recipeLikes;
+
+    public RecipeTitleSuggestionDto(Long id, String title, Long recipeLikes) {
+        this.id = id;
+        this.title = title;
+        this.recipeLikes = recipeLikes;
+    }
+}
@@ -0,0 +1,17 @@
+package com.sparta.igeomubwotna.dto;
+
+import lombok.Getter;
+
+// 인기 급상승 레시피 항목 (score는 최근 좋아요일수록 크게 반영한 점수)
+@Getter
+public class TrendingRecipeDto {
+    private Long recipeId;
+    private String title;
+    private double score;
+
+    public TrendingRecipeDto(Long recipeId, String title, double score) {
+        this.recipeId = recipeId;
+        this.title = title;
+        this.score = score;
+    }
+}
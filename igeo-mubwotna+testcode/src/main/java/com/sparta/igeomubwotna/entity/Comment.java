@@ -6,22 +6,28 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 @Entity
 @Getter
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        // 레시피별 댓글을 (작성 시각, id) 순으로 이어서 조회할 때 사용
+        @Index(name = "idx_comment_recipe_created_at_id", columnList = "recipe_id, createdAt, id")
+})
 @NoArgsConstructor
 public class Comment extends Timestamped {
 
     /* Column */
     //ID
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id")
+    @TableGenerator(name = "comment_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = IdSequence.COMMENT,
+            allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     //내용
     @Column(nullable = false)
     private String content;
 
-    //좋아요 수
-    @Column
+    //좋아요 수 (LikeCounter가 like_count = like_count + ? 로만 변경)
+    @Column(updatable = false)
     private Long likeCount = 0L;
 
     /* Mapping */
@@ -35,14 +41,6 @@ public class Comment extends Timestamped {
     @JoinColumn(name = "recipe_id")
     private Recipe recipe;
 
-    public void addLike() {
-        this.likeCount = likeCount + 1L;
-    }
-
-    public void minusLike() {
-        this.likeCount = likeCount - 1L;
-    }
-
     /* Constructor */
     public Comment(CommentRequestDto requestDto, Recipe recipe, User user) {
         this.content = requestDto.getContent();
@@ -7,9 +7,14 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table
+@Table(uniqueConstraints = {
+        // 같은 사용자가 같은 댓글에 좋아요를 두 번 남기지 못하도록 (동시 요청 / 재시도 포함)
+        @UniqueConstraint(name = "uk_comment_likes_user_comment", columnNames = {"user_id", "comment_id"})
+})
 @NoArgsConstructor
 public class CommentLikes extends Timestamped {
+    // IDENTITY 유지: 좋아요는 Hibernate가 아니라 insertIfAbsent(JdbcTemplate)가 한 행씩 INSERT하므로 id는 AUTO_INCREMENT가 채움
+    // (id_sequence 블록으로 바꾸면 컬럼에 AUTO_INCREMENT가 없어져 이 INSERT가 실패하고, 한 요청에 한 행이라 배치로 얻을 것도 없음)
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
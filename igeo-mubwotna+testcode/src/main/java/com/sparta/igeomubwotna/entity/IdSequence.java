@@ -0,0 +1,20 @@
+package com.sparta.igeomubwotna.entity;
+
+// 여러 행을 한 번에 저장하는 엔티티의 id 발급 설정 (@TableGenerator에서 사용)
+// IDENTITY는 INSERT를 실행해야 id를 알 수 있어서 Hibernate가 INSERT를 배치로 묶지 못함
+// id_sequence 테이블의 엔티티별 행에서 ALLOCATION_SIZE개씩 미리 받아 쓰므로
+// 여러 서버가 같은 DB를 써도 구간이 겹치지 않고, INSERT는 hibernate.jdbc.batch_size 단위로 묶임
+public final class IdSequence {
+
+    public static final String TABLE = "id_sequence";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 100;
+
+    public static final String RECIPE = "recipe";
+    public static final String COMMENT = "comment";
+    public static final String USERS = "users";
+
+    private IdSequence() {
+    }
+}
@@ -7,13 +7,21 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "recipe")
+@Table(name = "recipe", indexes = {
+        // RecipeSortEnum의 정렬 기준마다 (정렬 컬럼, id) 인덱스 (이름을 바꾸면 RecipeSortEnum도 함께 변경)
+        @Index(name = "idx_recipe_created_at_id", columnList = "createdAt, id"),
+        @Index(name = "idx_recipe_recipe_likes_id", columnList = "recipeLikes, id"),
+        @Index(name = "idx_recipe_modified_at_id", columnList = "modifiedAt, id")
+})
 @NoArgsConstructor
 public class Recipe extends Timestamped {
 
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "recipe_id")
+    @TableGenerator(name = "recipe_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = IdSequence.RECIPE,
+            allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -26,17 +34,11 @@ public class Recipe extends Timestamped {
     @Column(nullable = false)
     private String content;
 
-    @Column
+    // 좋아요 수는 LikeCounter가 UPDATE recipe_likes = recipe_likes + ? 로만 변경
+    // (레시피 수정 시 엔티티에 읽어 둔 예전 값으로 덮어쓰지 않도록 updatable = false)
+    @Column(updatable = false)
     private Long recipeLikes;
 
-    public void addLike() {
-        this.recipeLikes = recipeLikes + 1L;
-    }
-
-    public void minusLike() {
-        this.recipeLikes = recipeLikes - 1L;
-    }
-
     public Recipe(RecipeRequestDto requestDto, User user) {
         this.title = requestDto.getTitle();
         this.content = requestDto.getContent();
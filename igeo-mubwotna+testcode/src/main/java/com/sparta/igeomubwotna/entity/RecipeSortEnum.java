@@ -0,0 +1,43 @@
+package com.sparta.igeomubwotna.entity;
+
+import java.util.List;
+
+// 목록 조회에서 허용하는 정렬 기준
+// 정렬마다 Recipe에 (정렬 컬럼, id) 복합 인덱스가 선언되어 있어야 함 (RecipeSortIndexVerifier가 기동 시 확인)
+public enum RecipeSortEnum {
+    NEWEST("createdAt", "idx_recipe_created_at_id", List.of("created_at", "id")),  // 최신순
+    MOST_LIKED("recipeLikes", "idx_recipe_recipe_likes_id", List.of("recipe_likes", "id")),  // 좋아요 많은 순
+    RECENTLY_MODIFIED("modifiedAt", "idx_recipe_modified_at_id", List.of("modified_at", "id"));  // 최근 수정순
+
+    private final String property;
+    private final String indexName;
+    private final List<String> indexColumns;  // 실제 테이블 컬럼명 (인덱스 선두부터 순서대로)
+
+    RecipeSortEnum(String property, String indexName, List<String> indexColumns) {
+        this.property = property;
+        this.indexName = indexName;
+        this.indexColumns = indexColumns;
+    }
+
+    public String getProperty() {
+        return this.property;
+    }
+
+    public String getIndexName() {
+        return this.indexName;
+    }
+
+    public List<String> getIndexColumns() {
+        return this.indexColumns;
+    }
+
+    // 요청 파라미터(sortBy)로 정렬 기준 찾기 (필드명, 이름 모두 허용)
+    public static RecipeSortEnum from(String sortBy) {
+        for (RecipeSortEnum sort : values()) {
+            if (sort.property.equals(sortBy) || sort.name().equalsIgnoreCase(sortBy)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sortBy);
+    }
+}
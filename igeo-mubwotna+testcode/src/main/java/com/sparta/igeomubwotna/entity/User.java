@@ -15,7 +15,10 @@ import java.util.List;
 @Table(name = "users")
 public class User extends Timestamped {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+    @TableGenerator(name = "users_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN,
+            valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = IdSequence.USERS,
+            allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -37,9 +40,6 @@ public class User extends Timestamped {
     @Enumerated(value = EnumType.STRING)
     private UserStatusEnum status;
 
-    @Column
-    private String refreshToken;
-
     @LastModifiedDate
     @Column
     @Temporal(TemporalType.TIMESTAMP)
@@ -63,6 +63,14 @@ public class User extends Timestamped {
         this.status = UserStatusEnum.ACTIVE;
     }
 
+    // AccessToken Claim이나 캐시된 스냅샷으로 만드는 인증용 사용자 (DB에서 읽지 않은 detached 객체)
+    public User(Long id, String userId, String password, UserStatusEnum status) {
+        this.id = id;
+        this.userId = userId;
+        this.password = password;
+        this.status = status;
+    }
+
 
     public void updateName(String name) {
         this.name = name;
@@ -77,11 +85,6 @@ public class User extends Timestamped {
     }
 
 
-    public void updateRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
-    }
-
-
     public boolean isWithdrawn() {
         return this.status == UserStatusEnum.WITHDRAWN;
     }
@@ -0,0 +1,22 @@
+package com.sparta.igeomubwotna.event;
+
+import lombok.Getter;
+
+// 레시피 내용(작성, 수정, 삭제)이나 좋아요 수가 바뀌었을 때 발행하는 이벤트
+@Getter
+public class RecipeChangedEvent {
+    private final Long recipeId;
+    private final Type type;
+
+    public RecipeChangedEvent(Long recipeId, Type type) {
+        this.recipeId = recipeId;
+        this.type = type;
+    }
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        LIKED
+    }
+}
@@ -0,0 +1,17 @@
+package com.sparta.igeomubwotna.event;
+
+import lombok.Getter;
+
+// 사용자가 레시피에 좋아요를 추가(liked = true) / 취소(liked = false)했을 때 발행하는 이벤트
+@Getter
+public class RecipeLikeChangedEvent {
+    private final Long userPk;
+    private final Long recipeId;
+    private final boolean liked;
+
+    public RecipeLikeChangedEvent(Long userPk, Long recipeId, boolean liked) {
+        this.userPk = userPk;
+        this.recipeId = recipeId;
+        this.liked = liked;
+    }
+}
@@ -0,0 +1,14 @@
+package com.sparta.igeomubwotna.event;
+
+import lombok.Getter;
+
+// 대량 등록이 끝났을 때 한 번 발행하는 이벤트
+// (레시피마다 RecipeChangedEvent를 발행하면 구독하는 쪽에서 레시피마다 DB를 다시 조회하므로 한 번에 알림)
+@Getter
+public class RecipesImportedEvent {
+    private final int count;
+
+    public RecipesImportedEvent(int count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,13 @@
+package com.sparta.igeomubwotna.event;
+
+import lombok.Getter;
+
+// 사용자 정보(프로필, 비밀번호, 상태, 로그인 정보)가 바뀌었을 때 발행하는 이벤트
+@Getter
+public class UserChangedEvent {
+    private final String userId;
+
+    public UserChangedEvent(String userId) {
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,6 @@
+package com.sparta.igeomubwotna.filter;
+
+public enum AuthorizationMode {
+    CLAIMS,  // AccessToken Claim으로 인증 객체를 만들고, 필요할 때만 DB 확인
+    DATABASE  // 매 요청마다 DB에서 사용자 조회
+}
@@ -1,34 +1,42 @@
 package com.sparta.igeomubwotna.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.sparta.igeomubwotna.dto.SigninRequestDto;
+import com.sparta.igeomubwotna.entity.User;
 import com.sparta.igeomubwotna.jwt.JwtUtil;
-import com.sparta.igeomubwotna.repository.UserRepository;
+import com.sparta.igeomubwotna.jwt.RefreshTokenStore;
+import com.sparta.igeomubwotna.security.PasswordHashingRejectedException;
 import com.sparta.igeomubwotna.security.UserDetailsImpl;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import java.io.IOException;
+import java.time.Duration;
 
 @RequiredArgsConstructor
 @Slf4j(topic = "로그인 및 JWT 생성")
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
+    // ObjectReader는 thread-safe 하므로 요청마다 ObjectMapper를 만들지 않고 공유
+    private static final ObjectReader SIGNIN_REQUEST_READER = new ObjectMapper().readerFor(SigninRequestDto.class);
+
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
     // 로그인 시도 처리
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
         try {
             // 요청에서 로그인 정보를 읽어와 DTO에 매핑
-            SigninRequestDto requestDto = new ObjectMapper().readValue(request.getInputStream(), SigninRequestDto.class);
+            SigninRequestDto requestDto = SIGNIN_REQUEST_READER.readValue(request.getInputStream());
 
             // 인증 매니저를 통해 사용자 인증 시도
             return getAuthenticationManager().authenticate(
@@ -38,6 +46,9 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
                             null  // 권한 목록은 null로 전달
                     )
             );
+        } catch (PasswordHashingRejectedException e) {
+            // 비밀번호 검증 대기열이 가득 찬 경우 실패 처리로 넘겨 503 응답
+            throw new InternalAuthenticationServiceException(e.getReason(), e);
         } catch (IOException e) {
             // 예외 발생 시 로그 출력 및 RuntimeException 던지기
             log.error(e.getMessage());
@@ -49,11 +60,13 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     // 로그인 성공 시 처리
     @Override
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authResult) throws IOException {
-        // 사용자 아이디와 역할 정보를 가져옴
-        String userId = ((UserDetailsImpl) authResult.getPrincipal()).getUsername();
-//        UserRoleEnum role = ((UserDetailsImpl) authResult.getPrincipal()).getUser().getRole();
+        // 인증 과정에서 이미 읽어온 사용자 정보를 그대로 사용 (다시 조회하지 않음)
+        // UserDetailsServiceImpl이 로그인 때마다 DB의 현재 비밀번호 해시 / 상태와 비교해서 돌려준 값이므로
+        // 다른 서버에서 탈퇴한 사용자도 아래 탈퇴 확인에 걸림
+        User loginUser = ((UserDetailsImpl) authResult.getPrincipal()).getUser();
+        String userId = loginUser.getUserId();
 
-        if (userRepository.findByUserId(userId).get().isWithdrawn()) {
+        if (loginUser.isWithdrawn()) {
             response.setCharacterEncoding("UTF-8");
             response.getWriter().write("이미 탈퇴한 회원입니다.");  // 탈퇴한 사용자는 로그인 못함
 
@@ -61,22 +74,17 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         }
 
         // AccessToken 생성
-        String accessToken = jwtUtil.createAccessToken(userId);
+        String accessToken = jwtUtil.createAccessToken(loginUser);
         // 응답 헤더에 AccessToken 추가
         response.addHeader(JwtUtil.ACCESS_HEADER, accessToken);
         // 응답 헤더에 userId 추가
         response.addHeader(JwtUtil.ACCESS_USERID, userId);
 
         // RefreshToken 생성
-        String refreshToken = jwtUtil.createRefreshToken(userId);
+        String refreshToken = jwtUtil.createRefreshToken(loginUser);
 
-        // 로그인시 RefreshToken을 user DB에 저장
-        userRepository.findByUserId(userId).ifPresent(
-                user -> {
-                    user.updateRefreshToken(refreshToken);
-                    userRepository.save(user);
-                }
-        );
+        // 로그인시 RefreshToken을 기기별로 저장
+        refreshTokenStore.save(userId, jwtUtil.getDeviceIdFromHeader(request), refreshToken, Duration.ofMillis(JwtUtil.REFRESH_TOKEN_TIME));
 
         // 한국어 쓰기위해 인코딩
         response.setCharacterEncoding("UTF-8");
@@ -86,6 +94,13 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     // 로그인 실패 시 처리
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException {
+        if (failed.getCause() instanceof PasswordHashingRejectedException rejected) {
+            response.setStatus(rejected.getStatusCode().value());
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write(rejected.getReason());
+            return;
+        }
+
         response.setStatus(401);
 
         // 한국어 쓰기위해 인코딩
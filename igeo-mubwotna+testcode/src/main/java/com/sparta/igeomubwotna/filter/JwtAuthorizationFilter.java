@@ -1,10 +1,15 @@
 package com.sparta.igeomubwotna.filter;
 
 import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.entity.UserStatusEnum;
 import com.sparta.igeomubwotna.jwt.JwtUtil;
+import com.sparta.igeomubwotna.jwt.RefreshTokenStore;
 import com.sparta.igeomubwotna.repository.UserRepository;
+import com.sparta.igeomubwotna.security.RevokedUserRegistry;
+import com.sparta.igeomubwotna.security.UserDetailsImpl;
 import com.sparta.igeomubwotna.security.UserDetailsServiceImpl;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,11 +32,19 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
     private final UserRepository userRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RevokedUserRegistry revokedUserRegistry;
+    private final AuthorizationMode authorizationMode;
 
-    public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, UserRepository userRepository) {
+    public JwtAuthorizationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, UserRepository userRepository,
+                                  RefreshTokenStore refreshTokenStore, RevokedUserRegistry revokedUserRegistry,
+                                  AuthorizationMode authorizationMode) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
         this.userRepository = userRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.revokedUserRegistry = revokedUserRegistry;
+        this.authorizationMode = authorizationMode;
     }
 
     @Override
@@ -43,6 +56,12 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             return; // 필터 체인을 빠져나갑니다.
         }
 
+        // Claim 모드: 유효한 AccessToken이면 DB 조회 없이 인증 처리
+        if (authorizationMode == AuthorizationMode.CLAIMS && authenticateFromClaims(req)) {
+            filterChain.doFilter(req, res);
+            return;
+        }
+
         // HTTP 요청에서 UserId 추출
         String userId = jwtUtil.getUserIdFromHeader(req);
 
@@ -61,8 +80,8 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         String accessToken = jwtUtil.getAccessTokenFromHeader(req);
 
         if (userOptional.isPresent()) {
-            // 유저 정보로 refreshToken 들고오기
-            String refreshToken = userOptional.get().getRefreshToken();
+            // 유저 정보와 기기로 refreshToken 들고오기
+            String refreshToken = refreshTokenStore.find(userId, jwtUtil.getDeviceIdFromHeader(req)).orElse(null);
 
             if (refreshToken == null) {
                 res.setCharacterEncoding("UTF-8");
@@ -72,7 +91,7 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
             if (StringUtils.hasText(accessToken)) {
                 // Access 토큰 유효성 검증
-                if (!jwtUtil.validateAccessToken(accessToken, refreshToken, res)) {
+                if (!jwtUtil.validateAccessToken(accessToken, refreshToken, userOptional.get(), res)) {
                     // 유효하지 않은 토큰이면 에러 로깅 후 종료
                     return;
                 }
@@ -94,6 +113,35 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         filterChain.doFilter(req, res);
     }
 
+    // AccessToken Claim만으로 인증 처리
+    // 만료 / 변조 / 예전 형식 토큰이거나 로그아웃, 탈퇴 기록이 있으면 false를 반환해 DB 경로로 넘김
+    private boolean authenticateFromClaims(HttpServletRequest req) {
+        String accessToken = jwtUtil.getAccessTokenFromHeader(req);
+        if (!StringUtils.hasText(accessToken)) {
+            return false;
+        }
+
+        Claims info;
+        try {
+            info = jwtUtil.getUserInfoFromToken(accessToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
+
+        Long userPk = jwtUtil.getUserPk(info);
+        UserStatusEnum status = jwtUtil.getStatus(info);
+        if (userPk == null || status != UserStatusEnum.ACTIVE || revokedUserRegistry.isRevoked(userPk, info.getIssuedAt())) {
+            return false;
+        }
+
+        UserDetailsImpl userDetails = new UserDetailsImpl(new User(userPk, info.getSubject(), null, status));
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+        SecurityContextHolder.setContext(context);
+        return true;
+    }
+
     // 사용자 인증 처리
     public void setAuthentication(String username) {
         // 빈 SecurityContext 생성
@@ -111,8 +159,8 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     // 사용자의 인증 객체 생성
     private Authentication createAuthentication(String username) {
-        // 사용자 정보 조회
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        // 사용자 정보 조회 (존재 / 탈퇴 여부는 doFilterInternal에서 이미 DB로 확인)
+        UserDetails userDetails = userDetailsService.loadCachedUserByUsername(username);
         // UserDetails를 사용하여 인증 토큰 생성
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
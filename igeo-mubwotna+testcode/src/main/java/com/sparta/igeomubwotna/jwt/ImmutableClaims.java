@@ -0,0 +1,140 @@
+package com.sparta.igeomubwotna.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.RequiredTypeException;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+// VerifiedClaimsCache에 저장하는 읽기 전용 Claims 사본
+// 캐시된 Claims는 여러 요청이 함께 읽으므로 put / remove / set* 은 모두 UnsupportedOperationException
+// 값 변환은 jjwt의 DefaultClaims와 같게 맞춤 (exp / nbf / iat는 초 단위 숫자, Integer -> Long 확장)
+final class ImmutableClaims extends AbstractMap<String, Object> implements Claims {
+
+    private final Map<String, Object> claims;
+
+    private ImmutableClaims(Map<String, Object> claims) {
+        this.claims = Collections.unmodifiableMap(new LinkedHashMap<>(claims));
+    }
+
+    static Claims copyOf(Claims claims) {
+        return claims instanceof ImmutableClaims ? claims : new ImmutableClaims(claims);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return claims.entrySet();
+    }
+
+    @Override
+    public Object get(Object key) {
+        return claims.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return claims.containsKey(key);
+    }
+
+    @Override
+    public String getIssuer() {
+        return getString(ISSUER);
+    }
+
+    @Override
+    public String getSubject() {
+        return getString(SUBJECT);
+    }
+
+    @Override
+    public String getAudience() {
+        return getString(AUDIENCE);
+    }
+
+    @Override
+    public Date getExpiration() {
+        return get(EXPIRATION, Date.class);
+    }
+
+    @Override
+    public Date getNotBefore() {
+        return get(NOT_BEFORE, Date.class);
+    }
+
+    @Override
+    public Date getIssuedAt() {
+        return get(ISSUED_AT, Date.class);
+    }
+
+    @Override
+    public String getId() {
+        return getString(ID);
+    }
+
+    @Override
+    public <T> T get(String claimName, Class<T> requiredType) {
+        Object value = claims.get(claimName);
+        if (value == null) {
+            return null;
+        }
+        if (Date.class.equals(requiredType) && value instanceof Number number) {
+            // exp / nbf / iat는 초 단위, 그 외 날짜 Claim은 밀리초 단위
+            boolean specDate = EXPIRATION.equals(claimName) || NOT_BEFORE.equals(claimName) || ISSUED_AT.equals(claimName);
+            value = new Date(specDate ? number.longValue() * 1000L : number.longValue());
+        } else if (Long.class.equals(requiredType) && value instanceof Integer integer) {
+            value = integer.longValue();
+        }
+        if (!requiredType.isInstance(value)) {
+            throw new RequiredTypeException("Expected value to be of type: " + requiredType + ", but was " + value.getClass());
+        }
+        return requiredType.cast(value);
+    }
+
+    private String getString(String claimName) {
+        Object value = claims.get(claimName);
+        return value == null ? null : String.valueOf(value);
+    }
+
+    @Override
+    public Claims setIssuer(String iss) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setSubject(String sub) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setAudience(String aud) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setExpiration(Date exp) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setNotBefore(Date nbf) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setIssuedAt(Date iat) {
+        throw readOnly();
+    }
+
+    @Override
+    public Claims setId(String jti) {
+        throw readOnly();
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("캐시된 Claims는 수정할 수 없습니다.");
+    }
+}
@@ -0,0 +1,161 @@
+package com.sparta.igeomubwotna.jwt;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 메모리 RefreshToken 저장소
+// 만료 시각이 지난 토큰은 조회되지 않고 주기적으로 정리되며, 재시작에 대비해 주기적으로 로컬 파일에 스냅샷을 남김
+// 서버마다 따로 들고 있으므로 서버가 여러 대이면 다른 서버에서 로그인한 사용자를 찾지 못하고 로그아웃도 전파되지 않음
+// 그래서 jwt.refresh-token.single-node=true로 서버 한 대 운영을 명시했을 때만 기동함 (여러 대면 jdbc 저장소 사용)
+@Slf4j(topic = "RefreshToken 저장소")
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    // userId -> (deviceId -> 토큰)
+    private final Map<String, Map<String, StoredToken>> tokens = new ConcurrentHashMap<>();
+    private final Path snapshotFile;
+
+    public InMemoryRefreshTokenStore(@Value("${jwt.refresh-token.snapshot-file}") String snapshotFile,
+                                     @Value("${jwt.refresh-token.single-node}") boolean singleNode) {
+        if (!singleNode) {
+            throw new IllegalStateException("memory RefreshToken 저장소는 서버 한 대에서만 사용할 수 있습니다. "
+                    + "jwt.refresh-token.single-node=true로 명시하거나 jwt.refresh-token.store=jdbc를 사용하세요.");
+        }
+        this.snapshotFile = Paths.get(snapshotFile);
+    }
+
+    @Override
+    public void save(String userId, String deviceId, String refreshToken, Duration ttl) {
+        StoredToken token = new StoredToken(refreshToken, System.currentTimeMillis() + ttl.toMillis());
+        tokens.computeIfAbsent(userId, key -> new ConcurrentHashMap<>()).put(deviceId, token);
+    }
+
+    @Override
+    public Optional<String> find(String userId, String deviceId) {
+        Map<String, StoredToken> devices = tokens.get(userId);
+        if (devices == null) {
+            return Optional.empty();
+        }
+        StoredToken token = devices.get(deviceId);
+        if (token == null || token.isExpired(System.currentTimeMillis())) {
+            return Optional.empty();
+        }
+        return Optional.of(token.value);
+    }
+
+    @Override
+    public void revoke(String userId, String deviceId) {
+        tokens.computeIfPresent(userId, (key, devices) -> {
+            devices.remove(deviceId);
+            return devices.isEmpty() ? null : devices;
+        });
+    }
+
+    @Override
+    public void revokeAll(String userId) {
+        tokens.remove(userId);
+    }
+
+    // 만료된 토큰 정리
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.purge-interval-ms}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        for (String userId : tokens.keySet()) {
+            tokens.computeIfPresent(userId, (key, devices) -> {
+                devices.values().removeIf(token -> token.isExpired(now));
+                return devices.isEmpty() ? null : devices;
+            });
+        }
+    }
+
+    // 재시작 시 스냅샷 복구
+    @PostConstruct
+    public void restore() {
+        if (!Files.exists(snapshotFile)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        int restored = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String userId = in.readUTF();
+                String deviceId = in.readUTF();
+                String value = in.readUTF();
+                long expiresAt = in.readLong();
+                if (expiresAt > now) {
+                    tokens.computeIfAbsent(userId, key -> new ConcurrentHashMap<>()).put(deviceId, new StoredToken(value, expiresAt));
+                    restored++;
+                }
+            }
+            log.info("RefreshToken 스냅샷 복구: {}건", restored);
+        } catch (IOException e) {
+            log.error("RefreshToken 스냅샷 복구 실패: {}", e.getMessage());
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 교체해서 쓰는 도중에 종료되어도 이전 스냅샷이 남도록 함
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.snapshot-interval-ms}")
+    public void snapshot() {
+        long now = System.currentTimeMillis();
+        List<String[]> keys = new ArrayList<>();
+        List<StoredToken> values = new ArrayList<>();
+        tokens.forEach((userId, devices) -> devices.forEach((deviceId, token) -> {
+            if (!token.isExpired(now)) {
+                keys.add(new String[]{userId, deviceId});
+                values.add(token);
+            }
+        }));
+
+        try {
+            Path parent = snapshotFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tempFile = Files.createTempFile(parent, "refresh-tokens", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(values.size());
+                for (int i = 0; i < values.size(); i++) {
+                    out.writeUTF(keys.get(i)[0]);
+                    out.writeUTF(keys.get(i)[1]);
+                    out.writeUTF(values.get(i).value);
+                    out.writeLong(values.get(i).expiresAt);
+                }
+            }
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("RefreshToken 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private static class StoredToken {
+        private final String value;
+        private final long expiresAt;
+
+        private StoredToken(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
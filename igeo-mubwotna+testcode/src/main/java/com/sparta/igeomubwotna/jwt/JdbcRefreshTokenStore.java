@@ -0,0 +1,66 @@
+package com.sparta.igeomubwotna.jwt;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+// refresh_token 테이블을 쓰는 RefreshToken 저장소 (기본값, 여러 서버가 같은 DB를 공유해도 로그인 / 로그아웃이 모든 서버에 반영됨)
+// users 테이블과 분리해서 로그인 / 인가 때마다 users 행을 읽고 쓰지 않도록 함
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.refresh-token.store", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcRefreshTokenStore implements RefreshTokenStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void createTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS refresh_token (" +
+                "user_id VARCHAR(20) NOT NULL, " +
+                "device_id VARCHAR(64) NOT NULL, " +
+                "token VARCHAR(512) NOT NULL, " +
+                "expires_at DATETIME NOT NULL, " +
+                "PRIMARY KEY (user_id, device_id))");
+    }
+
+    @Override
+    public void save(String userId, String deviceId, String refreshToken, Duration ttl) {
+        Timestamp expiresAt = Timestamp.from(Instant.now().plus(ttl));
+        jdbcTemplate.update("INSERT INTO refresh_token (user_id, device_id, token, expires_at) VALUES (?, ?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE token = VALUES(token), expires_at = VALUES(expires_at)",
+                userId, deviceId, refreshToken, expiresAt);
+    }
+
+    @Override
+    public Optional<String> find(String userId, String deviceId) {
+        List<String> tokens = jdbcTemplate.queryForList(
+                "SELECT token FROM refresh_token WHERE user_id = ? AND device_id = ? AND expires_at > ?",
+                String.class, userId, deviceId, Timestamp.from(Instant.now()));
+        return tokens.stream().findFirst();
+    }
+
+    @Override
+    public void revoke(String userId, String deviceId) {
+        jdbcTemplate.update("DELETE FROM refresh_token WHERE user_id = ? AND device_id = ?", userId, deviceId);
+    }
+
+    @Override
+    public void revokeAll(String userId) {
+        jdbcTemplate.update("DELETE FROM refresh_token WHERE user_id = ?", userId);
+    }
+
+    // 만료된 토큰 정리
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.purge-interval-ms}")
+    public void purgeExpired() {
+        jdbcTemplate.update("DELETE FROM refresh_token WHERE expires_at <= ?", Timestamp.from(Instant.now()));
+    }
+}
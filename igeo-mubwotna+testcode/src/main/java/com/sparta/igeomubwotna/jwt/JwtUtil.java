@@ -1,10 +1,13 @@
 package com.sparta.igeomubwotna.jwt;
 
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.entity.UserStatusEnum;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -16,52 +19,76 @@ import java.util.Date;
 
 @Slf4j(topic = "JWT 관련 로그")
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
     // AccessToken KEY 값 (이름)
     public static final String ACCESS_HEADER = "Authorization";
 
     // 사용자 아이디 값의 KEY (이름)
     public static final String ACCESS_USERID = "X-User-Id";
+    // 로그인 기기 식별 값의 KEY (이름), 없으면 기본 기기로 취급
+    public static final String DEVICE_HEADER = "X-Device-Id";
+    public static final String DEFAULT_DEVICE = "default";
+    private static final int DEVICE_ID_MAX_LENGTH = 64;
     // Token 식별자
     public static final String BEARER_PREFIX = "Bearer ";
+    // 사용자 PK, 상태 Claim 이름
+    public static final String USER_PK_CLAIM = "uid";
+    public static final String STATUS_CLAIM = "status";
     // 토큰 만료시간
-    private final long ACCESS_TOKEN_TIME = 30 * 60 * 1000L; // 30분
-    private final long REFRESH_TOKEN_TIME = 14 * 24 * 60 * 60 * 1000L; // 2주
+    public static final long ACCESS_TOKEN_TIME = 30 * 60 * 1000L; // 30분
+    public static final long REFRESH_TOKEN_TIME = 14 * 24 * 60 * 60 * 1000L; // 2주
 
     @Value("${jwt.secret.key}") // Base64 Encode 한 SecretKey
     private String secretKey;
     private Key key;
+    private JwtParser parser;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
+    // 한 번 검증한 AccessToken은 만료 전까지 다시 파싱하지 않도록 캐시
+    private final VerifiedClaimsCache verifiedClaimsCache;
+
     // 딱 한 번만 받아오면 되는 값을 사용할 때마다 요청을 새로고침하는 오류를 방지하기 위해
     @PostConstruct
     public void init() {
         // Base64로 디코딩
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        // 파서는 thread-safe 하므로 요청마다 새로 만들지 않고 재사용
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     // AccessToken 생성
-    // TODO: 나중에 user에 상태가 필요하면 말씀해 주세요!
-    public String createAccessToken(String userId) {
+    // 인가 필터가 DB 조회 없이 UserDetails를 만들 수 있도록 사용자 PK와 상태를 함께 담음
+    public String createAccessToken(User user) {
+        return createAccessToken(user.getUserId(), user.getId(), user.getStatus());
+    }
+
+    private String createAccessToken(String userId, Long userPk, UserStatusEnum status) {
         Date date = new Date();
 
-        return BEARER_PREFIX +
-                Jwts.builder()
-                        .setSubject(userId) // 유저 식별 값
-                        .setExpiration(new Date(date.getTime() + ACCESS_TOKEN_TIME)) // 만료 시간
-                        .setIssuedAt(date) // 발급일
-                        .signWith(key, signatureAlgorithm) // 암호화 알고리즘
-                        .compact();
-//                        .claim() // 상태
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(userId) // 유저 식별 값
+                .setExpiration(new Date(date.getTime() + ACCESS_TOKEN_TIME)) // 만료 시간
+                .setIssuedAt(date); // 발급일
+
+        if (userPk != null && status != null) {
+            builder.claim(USER_PK_CLAIM, userPk) // 유저 PK
+                    .claim(STATUS_CLAIM, status.name()); // 상태
+        }
+
+        return BEARER_PREFIX + builder.signWith(key, signatureAlgorithm).compact(); // 암호화 알고리즘
     }
 
     // RefreshToken 생성
-    public String createRefreshToken(String userId) {
+    // AccessToken 재발급 시 Claim은 이 토큰이 아니라 현재 사용자 정보로 다시 만듦 (refreshAccessToken)
+    public String createRefreshToken(User user) {
         Date date = new Date();
 
         return Jwts.builder()
-                .setSubject(userId)
+                .setSubject(user.getUserId())
+                .claim(USER_PK_CLAIM, user.getId())
+                .claim(STATUS_CLAIM, user.getStatus().name())
                 .setExpiration(new Date(date.getTime() + REFRESH_TOKEN_TIME))
                 .setIssuedAt(date)
                 .signWith(key, signatureAlgorithm)
@@ -88,15 +115,28 @@ public class JwtUtil {
         return null;
     }
 
-    // Access 토큰 검증
-    public boolean validateAccessToken(String accessToken, String refreshToken, HttpServletResponse response) {
+    // 기기 식별 값을 header에서 가져와서 반환하는 메서드
+    public String getDeviceIdFromHeader(HttpServletRequest request) {
+        return resolveDeviceId(request.getHeader(DEVICE_HEADER));
+    }
+
+    public static String resolveDeviceId(String deviceId) {
+        if (!StringUtils.hasText(deviceId)) {
+            return DEFAULT_DEVICE;
+        }
+        String trimmed = deviceId.trim();
+        return trimmed.length() > DEVICE_ID_MAX_LENGTH ? trimmed.substring(0, DEVICE_ID_MAX_LENGTH) : trimmed;
+    }
+
+    // Access 토큰 검증 (만료되었으면 user의 현재 정보로 재발급)
+    public boolean validateAccessToken(String accessToken, String refreshToken, User user, HttpServletResponse response) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken);
+            verifiedClaimsCache.get(accessToken, this::parseClaims);
             return true;
         } catch (SecurityException | MalformedJwtException | SignatureException e) {
             log.error("Invalid AccessToken signature, 유효하지 않는 AccessToken 서명 입니다.");
         } catch (ExpiredJwtException e) {
-            refreshAccessToken(refreshToken, response);
+            refreshAccessToken(refreshToken, user, response);
             log.error("Expired AccessToken token, 만료된 AccessToken 입니다.");
         } catch (UnsupportedJwtException e) {
             log.error("Unsupported AccessToken token, 지원되지 않는 AccessToken 입니다.");
@@ -109,7 +149,7 @@ public class JwtUtil {
     // refresh 토큰 검증
     public boolean validateRefreshToken(String refreshToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(refreshToken);
+            parseClaims(refreshToken);
             return true;
         } catch (SecurityException | MalformedJwtException | SignatureException e) {
             log.error("Invalid RefreshToken, 유효하지 않는 RefreshToken 서명 입니다.");
@@ -124,11 +164,15 @@ public class JwtUtil {
     }
 
     // RefreshToken 검증 및 AccessToken 재발급
-    public String refreshAccessToken(String refreshToken, HttpServletResponse response) {
+    // PK / 상태는 RefreshToken의 Claim을 복사하지 않고 DB에서 읽은 현재 사용자 정보로 담음 (정지 / 탈퇴 등 변경이 재발급에 남지 않도록)
+    public String refreshAccessToken(String refreshToken, User user, HttpServletResponse response) {
         if (validateRefreshToken(refreshToken)) {
-            Claims claims = getUserInfoFromToken(refreshToken);
-            String userId = claims.getSubject();
-            String newToken = createAccessToken(userId);
+            Claims claims = parseClaims(refreshToken);
+            if (!user.getUserId().equals(claims.getSubject())) {
+                log.error("RefreshToken subject mismatch, 다른 사용자의 RefreshToken 입니다.");
+                return null;
+            }
+            String newToken = createAccessToken(user);
 
             response.setHeader(ACCESS_HEADER, newToken);
 
@@ -137,8 +181,25 @@ public class JwtUtil {
         return null;
     }
 
-    // 토큰에서 사용자 정보 가져오기
+    // 토큰에서 사용자 정보 가져오기 (validateAccessToken에서 검증된 토큰이면 캐시에서 바로 반환)
     public Claims getUserInfoFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return verifiedClaimsCache.get(token, this::parseClaims);
+    }
+
+    // Claims에서 사용자 PK 꺼내기 (PK가 없는 예전 토큰이면 null)
+    public Long getUserPk(Claims claims) {
+        Number userPk = claims.get(USER_PK_CLAIM, Number.class);
+        return userPk == null ? null : userPk.longValue();
+    }
+
+    // Claims에서 사용자 상태 꺼내기 (상태가 없는 예전 토큰이면 null)
+    public UserStatusEnum getStatus(Claims claims) {
+        String status = claims.get(STATUS_CLAIM, String.class);
+        return status == null ? null : UserStatusEnum.valueOf(status);
+    }
+
+    // 서명 검증 및 Claims 추출
+    private Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.sparta.igeomubwotna.jwt;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// RefreshToken 저장소
+// 사용자(userId) 한 명이 기기(deviceId)별로 여러 개의 RefreshToken을 동시에 가질 수 있음
+public interface RefreshTokenStore {
+
+    // 저장 (같은 기기로 다시 로그인하면 덮어씀)
+    void save(String userId, String deviceId, String refreshToken, Duration ttl);
+
+    // 만료되지 않은 RefreshToken 조회
+    Optional<String> find(String userId, String deviceId);
+
+    // 해당 기기 로그아웃
+    void revoke(String userId, String deviceId);
+
+    // 모든 기기 로그아웃 (회원 탈퇴 등)
+    void revokeAll(String userId);
+}
@@ -0,0 +1,102 @@
+package com.sparta.igeomubwotna.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// 서명 검증이 끝난 AccessToken의 Claims를 토큰 만료 시각까지만 보관하는 캐시
+// 토큰 원문 대신 SHA-256 다이제스트를 키로 사용
+// 여러 요청이 같은 엔트리를 함께 읽으므로 검증된 Claims의 읽기 전용 사본(ImmutableClaims)을 저장
+@Component
+public class VerifiedClaimsCache {
+
+    private final Cache<String, Claims> cache;
+
+    @Autowired
+    public VerifiedClaimsCache(@Value("${jwt.claims-cache.maximum-size}") long maximumSize, MeterRegistry meterRegistry) {
+        this(maximumSize, meterRegistry, Ticker.systemTicker(), System::currentTimeMillis);
+    }
+
+    // 테스트에서 시간을 직접 움직이기 위한 생성자 (ticker는 캐시 시계, wallClock은 exp와 비교할 현재 시각)
+    VerifiedClaimsCache(long maximumSize, MeterRegistry meterRegistry, Ticker ticker, LongSupplier wallClock) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpireAtTokenExpiration(wallClock))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+
+        // hit / miss / eviction 카운터를 cache.* 메트릭으로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtClaims");
+    }
+
+    // 캐시에 있으면 그대로 반환하고, 없으면 verifier로 검증한 뒤 저장
+    // 검증 중 발생한 예외(만료, 서명 오류 등)는 그대로 호출자에게 전달되고 캐시에는 남지 않음
+    public Claims get(String token, Function<String, Claims> verifier) {
+        return cache.get(digest(token), key -> ImmutableClaims.copyOf(verifier.apply(token)));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // 테스트에서 키를 확인하기 위한 읽기 전용 뷰
+    Map<String, Claims> asMap() {
+        return Collections.unmodifiableMap(cache.asMap());
+    }
+
+    static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 엔트리마다 토큰의 exp까지 남은 시간만큼만 유지
+    private static class ExpireAtTokenExpiration implements Expiry<String, Claims> {
+        private final LongSupplier wallClock;
+
+        ExpireAtTokenExpiration(LongSupplier wallClock) {
+            this.wallClock = wallClock;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            if (claims.getExpiration() == null) {
+                return 0L;
+            }
+            long remainingMillis = claims.getExpiration().getTime() - wallClock.getAsLong();
+            return Math.max(0L, remainingMillis) * 1_000_000L;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -4,11 +4,23 @@ import com.sparta.igeomubwotna.entity.Comment;
 import com.sparta.igeomubwotna.entity.CommentLikes;
 import com.sparta.igeomubwotna.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface CommentLikesRepository extends JpaRepository<CommentLikes, Long> {
+public interface CommentLikesRepository extends JpaRepository<CommentLikes, Long>, CommentLikesRepositoryCustom {
     Optional<CommentLikes> findByUserAndComment(User foundUser, Comment foundComment);
+
+    // 좋아요 추가 전 댓글 존재 / 작성자 확인 (락을 걸지 않는 일반 조회, 작성자가 없는 댓글은 0)
+    @Query("select coalesce(c.user.id, 0L) from Comment c where c.id = :commentId")
+    Optional<Long> findCommentOwnerId(@Param("commentId") Long commentId);
+
+    // 본인 좋아요만 삭제, 반환값(삭제된 행 수)이 0이면 이미 취소된 좋아요
+    @Modifying
+    @Query("delete from CommentLikes l where l.id = :id and l.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
 }
@@ -0,0 +1,6 @@
+package com.sparta.igeomubwotna.repository;
+
+public interface CommentLikesRepositoryCustom {
+    // 좋아요가 없을 때만 추가, 이미 있으면 false
+    boolean insertIfAbsent(Long userId, Long commentId);
+}
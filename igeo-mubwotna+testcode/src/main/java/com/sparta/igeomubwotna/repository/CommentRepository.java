@@ -1,12 +1,34 @@
 package com.sparta.igeomubwotna.repository;
 
+import com.sparta.igeomubwotna.dto.CommentVersionDto;
 import com.sparta.igeomubwotna.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByRecipeId(Long recipeId);
+
+    // 댓글 목록 ETag 계산용 (댓글 행을 가져오지 않고 레시피의 댓글 수 / 최대 id / 최근 수정 시각 / 좋아요 합계 한 행만)
+    @Query("select new com.sparta.igeomubwotna.dto.CommentVersionDto(count(c), max(c.id), max(c.modifiedAt), sum(c.likeCount))"
+            + " from Comment c where c.recipe.id = :recipeId")
+    CommentVersionDto findVersionByRecipeId(@Param("recipeId") Long recipeId);
+
+    // 댓글 페이지 조회 (recipe_id, createdAt, id) 인덱스를 따라 오래된 순으로 seek
+    @Query("select c from Comment c where c.recipe.id = :recipeId order by c.createdAt asc, c.id asc")
+    List<Comment> findPageByRecipeId(@Param("recipeId") Long recipeId, Pageable pageable);
+
+    @Query("select c from Comment c where c.recipe.id = :recipeId"
+            + " and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id))"
+            + " order by c.createdAt asc, c.id asc")
+    List<Comment> findPageByRecipeIdAfter(@Param("recipeId") Long recipeId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
 }
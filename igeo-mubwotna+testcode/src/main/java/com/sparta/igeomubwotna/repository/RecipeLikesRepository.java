@@ -4,11 +4,28 @@ import com.sparta.igeomubwotna.entity.Recipe;
 import com.sparta.igeomubwotna.entity.RecipeLikes;
 import com.sparta.igeomubwotna.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface RecipeLikesRepository extends JpaRepository<RecipeLikes, Long> {
+public interface RecipeLikesRepository extends JpaRepository<RecipeLikes, Long>, RecipeLikesRepositoryCustom {
     Optional<RecipeLikes> findByUserAndRecipe(User foundUser, Recipe foundRecipe);
+
+    // 사용자가 좋아요를 누른 레시피 id 목록 (LikedRecipeIndex 적재용)
+    @Query("select l.recipe.id from RecipeLikes l where l.user.id = :userId")
+    List<Long> findRecipeIdsByUserId(@Param("userId") Long userId);
+
+    // 좋아요 추가 전 레시피 존재 / 작성자 확인 (락을 걸지 않는 일반 조회)
+    @Query("select r.user.id from Recipe r where r.id = :recipeId")
+    Optional<Long> findRecipeOwnerId(@Param("recipeId") Long recipeId);
+
+    // 본인 좋아요만 삭제, 반환값(삭제된 행 수)이 0이면 이미 취소된 좋아요
+    @Modifying
+    @Query("delete from RecipeLikes l where l.id = :id and l.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
 }
@@ -0,0 +1,26 @@
+package com.sparta.igeomubwotna.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 일반 INSERT 한 번으로 추가하고 (user_id, recipe_id) 유니크 제약 위반만 중복으로 봄
+// - INSERT ... SELECT처럼 recipe 행에 공유 락을 걸지 않으므로 좋아요 수 반영(배타 락)과 서로 기다리지 않음
+// - IGNORE를 쓰지 않으므로 외래 키 위반 등 다른 오류는 그대로 던짐
+// - JdbcTemplate은 JPA 트랜잭션의 커넥션을 함께 쓰고, 중복 오류가 나도 트랜잭션을 rollback-only로 만들지 않음
+@RequiredArgsConstructor
+public class RecipeLikesRepositoryCustomImpl implements RecipeLikesRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insertIfAbsent(Long userId, Long recipeId) {
+        try {
+            jdbcTemplate.update("INSERT INTO recipe_likes (user_id, recipe_id, created_at, modified_at) " +
+                    "VALUES (?, ?, CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6))", userId, recipeId);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
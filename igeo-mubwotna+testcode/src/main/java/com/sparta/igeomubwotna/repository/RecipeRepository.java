@@ -1,14 +1,72 @@
 package com.sparta.igeomubwotna.repository;
 
+import com.sparta.igeomubwotna.dto.RecipeSummaryDto;
 import com.sparta.igeomubwotna.entity.Recipe;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RecipeRepository extends JpaRepository<Recipe, Long> {
-    Page<Recipe> findAllByCreatedAtBetween(Pageable pageable, LocalDateTime startDateTime, LocalDateTime endDateTime);
-}
\ No newline at end of file
+    /* 목록 조회는 content를 읽지 않도록 RecipeSummaryDto로 필요한 컬럼만 조회 (content는 단건 조회에서만) */
+    String SUMMARY = "select new com.sparta.igeomubwotna.dto.RecipeSummaryDto(" +
+            "r.id, r.title, r.user.id, r.recipeLikes, r.createdAt, r.modifiedAt) from Recipe r ";
+
+    @Query(value = SUMMARY, countQuery = "select count(r) from Recipe r")
+    Page<RecipeSummaryDto> findSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY + "where r.createdAt between :startDateTime and :endDateTime",
+            countQuery = "select count(r) from Recipe r where r.createdAt between :startDateTime and :endDateTime")
+    Page<RecipeSummaryDto> findSummariesByCreatedAtBetween(Pageable pageable,
+                                                           @Param("startDateTime") LocalDateTime startDateTime,
+                                                           @Param("endDateTime") LocalDateTime endDateTime);
+
+    // 단건 조회 ETag 계산용 (content 없이 수정 시각 / 좋아요 수 확인)
+    @Query(SUMMARY + "where r.id = :id")
+    Optional<RecipeSummaryDto> findSummaryById(@Param("id") Long id);
+
+    @Query(SUMMARY + "where r.id in :ids")
+    List<RecipeSummaryDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /* 커서 기반 목록: (정렬 값, id) 기준으로 마지막으로 본 행 다음부터 조회 (OFFSET, COUNT 없음) */
+    @Query(SUMMARY + "order by r.createdAt desc, r.id desc")
+    List<RecipeSummaryDto> findFeedOrderByCreatedAt(Pageable pageable);
+
+    @Query(SUMMARY + "where r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id) " +
+            "order by r.createdAt desc, r.id desc")
+    List<RecipeSummaryDto> findFeedOrderByCreatedAtAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY + "order by r.recipeLikes desc, r.id desc")
+    List<RecipeSummaryDto> findFeedOrderByRecipeLikes(Pageable pageable);
+
+    @Query(SUMMARY + "where r.recipeLikes < :recipeLikes or (r.recipeLikes = :recipeLikes and r.id < :id) " +
+            "order by r.recipeLikes desc, r.id desc")
+    List<RecipeSummaryDto> findFeedOrderByRecipeLikesAfter(@Param("recipeLikes") Long recipeLikes, @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY + "order by r.modifiedAt desc, r.id desc")
+    List<RecipeSummaryDto> findFeedOrderByModifiedAt(Pageable pageable);
+
+    @Query(SUMMARY + "where r.modifiedAt < :modifiedAt or (r.modifiedAt = :modifiedAt and r.id < :id) " +
+            "order by r.modifiedAt desc, r.id desc")
+    List<RecipeSummaryDto> findFeedOrderByModifiedAtAfter(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY + "where r.createdAt between :startDateTime and :endDateTime " +
+            "order by r.createdAt desc, r.id desc")
+    List<RecipeSummaryDto> findDateFeed(@Param("startDateTime") LocalDateTime startDateTime,
+                                        @Param("endDateTime") LocalDateTime endDateTime, Pageable pageable);
+
+    @Query(SUMMARY + "where r.createdAt between :startDateTime and :endDateTime " +
+            "and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id)) " +
+            "order by r.createdAt desc, r.id desc")
+    List<RecipeSummaryDto> findDateFeedAfter(@Param("startDateTime") LocalDateTime startDateTime,
+                                             @Param("endDateTime") LocalDateTime endDateTime,
+                                             @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+}
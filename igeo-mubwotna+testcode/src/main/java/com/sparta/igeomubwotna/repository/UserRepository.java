@@ -1,9 +1,14 @@
 package com.sparta.igeomubwotna.repository;
 
 import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.entity.UserStatusEnum;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +16,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUserId(String userId);
 
     Optional<User> findByEmail(String email);
+
+    // 목록 응답의 작성자 표시용 (엔티티 대신 PK와 userId만 조회)
+    @Query("select u.id as id, u.userId as userId from User u where u.id in :ids")
+    List<UserIdView> findUserIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 로그인 시 캐시된 사용자 스냅샷이 최신인지 확인용 (엔티티 대신 비밀번호 해시와 상태만 조회)
+    @Query("select u.password as password, u.status as status from User u where u.userId = :userId")
+    Optional<CredentialsView> findCredentialsByUserId(@Param("userId") String userId);
+
+    interface UserIdView {
+        Long getId();
+
+        String getUserId();
+    }
+
+    interface CredentialsView {
+        String getPassword();
+
+        UserStatusEnum getStatus();
+    }
 }
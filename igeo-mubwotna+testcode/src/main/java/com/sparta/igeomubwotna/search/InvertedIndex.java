@@ -0,0 +1,280 @@
+package com.sparta.igeomubwotna.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 레시피 제목 + 본문 역색인 (term -> 문서 번호 목록), 검색 결과는 BM25 점수 순
+// - 문서 번호(int)는 추가될 때마다 1씩 늘어나므로 term별 문서 목록은 항상 정렬된 상태로 뒤에만 추가됨
+// - 수정은 기존 문서를 삭제 표시하고 새 번호로 추가, 삭제 표시된 문서는 검색 시 건너뜀
+//   (삭제 표시가 쌓이면 RecipeSearchIndex가 DB에서 다시 만들어서 교체)
+// - 검색어의 필수 term이 모두 들어 있는 문서만 결과에 포함 (문서 수가 가장 적은 term부터 교집합)
+//   선택 term(검색어 끝의 bigram)은 들어 있으면 점수만 더함
+public class InvertedIndex {
+
+    // BM25 파라미터 (일반적으로 쓰는 값)
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    // 제목에 나온 term은 본문보다 가중치를 더 줌
+    static final int TITLE_WEIGHT = 3;
+
+    private final KoreanBigramTokenizer tokenizer;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> docByRecipeId = new HashMap<>();
+    private long[] recipeIds = new long[1024];
+    private long[] versions = new long[1024];
+    private int[] docLengths = new int[1024];
+    private final BitSet deleted = new BitSet();
+    private int nextDoc;
+    private int liveDocs;
+    private long totalLength;
+
+    public InvertedIndex(KoreanBigramTokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+    }
+
+    // 같은 버전(modified_at)으로 이미 색인된 레시피는 건너뜀, 새로 색인했으면 true
+    public boolean index(long recipeId, long version, String title, String content) {
+        // 토큰 분리는 락 밖에서
+        Map<String, Integer> termFrequencies = new LinkedHashMap<>();
+        for (String term : tokenizer.tokenizeDocument(title)) {
+            termFrequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : tokenizer.tokenizeDocument(content)) {
+            termFrequencies.merge(term, 1, Integer::sum);
+        }
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = docByRecipeId.get(recipeId);
+            if (existing != null && versions[existing] == version) {
+                return false;
+            }
+            removeLocked(recipeId);
+            if (termFrequencies.isEmpty()) {
+                return true;
+            }
+
+            int doc = nextDoc++;
+            ensureCapacity(doc + 1);
+            recipeIds[doc] = recipeId;
+            versions[doc] = version;
+            docLengths[doc] = length;
+            docByRecipeId.put(recipeId, doc);
+            liveDocs++;
+            totalLength += length;
+
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new Postings()).add(doc, frequency));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long recipeId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(recipeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 점수가 높은 순으로 최대 limit개의 레시피 id
+    public List<Long> search(String query, int limit) {
+        KoreanBigramTokenizer.QueryTerms terms = tokenizer.tokenizeQuery(query);
+        if (terms.required().isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>(terms.required().size());
+            for (String term : terms.required()) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            float averageLength = liveDocs == 0 ? 1f : (float) totalLength / liveDocs;
+
+            // 문서 수가 가장 적은 term의 문서가 후보, 나머지 term 목록에서는 이진 탐색으로 교집합
+            Postings first = lists.get(0);
+            float firstIdf = idf(first.size);
+            int[] docs = new int[first.size];
+            float[] scores = new float[first.size];
+            int count = 0;
+            for (int i = 0; i < first.size; i++) {
+                int doc = first.docs[i];
+                if (deleted.get(doc)) {
+                    continue;
+                }
+                docs[count] = doc;
+                scores[count] = score(first.frequencies[i], doc, firstIdf, averageLength);
+                count++;
+            }
+
+            for (int l = 1; l < lists.size() && count > 0; l++) {
+                Postings other = lists.get(l);
+                float idf = idf(other.size);
+                int found = 0;
+                int from = 0;
+                for (int i = 0; i < count; i++) {
+                    int index = Arrays.binarySearch(other.docs, from, other.size, docs[i]);
+                    if (index < 0) {
+                        from = -index - 1;
+                        continue;
+                    }
+                    from = index + 1;
+                    docs[found] = docs[i];
+                    scores[found] = scores[i] + score(other.frequencies[index], docs[i], idf, averageLength);
+                    found++;
+                }
+                count = found;
+            }
+
+            // 선택 term은 후보를 줄이지 않고 들어 있는 문서에만 점수를 더함
+            for (String term : terms.optional()) {
+                Postings other = postings.get(term);
+                if (other == null) {
+                    continue;
+                }
+                float idf = idf(other.size);
+                int from = 0;
+                for (int i = 0; i < count; i++) {
+                    int index = Arrays.binarySearch(other.docs, from, other.size, docs[i]);
+                    if (index < 0) {
+                        from = -index - 1;
+                        continue;
+                    }
+                    from = index + 1;
+                    scores[i] += score(other.frequencies[index], docs[i], idf, averageLength);
+                }
+            }
+
+            return topRecipeIds(docs, scores, count, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 색인된 레시피 id (오름차순, 다른 서버에서 삭제된 레시피 확인용)
+    public long[] recipeIds() {
+        lock.readLock().lock();
+        try {
+            return docByRecipeId.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 삭제 표시만 되어 있고 문서 목록에 남아 있는 문서 수
+    public int deletedDocs() {
+        lock.readLock().lock();
+        try {
+            return nextDoc - liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int terms() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(long recipeId) {
+        Integer doc = docByRecipeId.remove(recipeId);
+        if (doc == null) {
+            return;
+        }
+        deleted.set(doc);
+        liveDocs--;
+        totalLength -= docLengths[doc];
+    }
+
+    // 전체 문서 수에 비해 드물게 나오는 term일수록 큰 값
+    private float idf(int documentFrequency) {
+        return (float) Math.log(1 + (liveDocs - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private float score(int frequency, int doc, float idf, float averageLength) {
+        float norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+        return idf * frequency * (K1 + 1) / (frequency + norm);
+    }
+
+    // 점수 상위 limit개만 힙에 유지 (동점이면 최근에 색인된 문서 우선)
+    private List<Long> topRecipeIds(int[] docs, float[] scores, int count, int limit) {
+        Comparator<Integer> byScore = Comparator.<Integer>comparingDouble(i -> scores[i]).thenComparingInt(i -> docs[i]);
+        PriorityQueue<Integer> top = new PriorityQueue<>(Math.min(limit, Math.max(count, 1)), byScore);
+        for (int i = 0; i < count; i++) {
+            if (top.size() < limit) {
+                top.add(i);
+            } else if (byScore.compare(i, top.peek()) > 0) {
+                top.poll();
+                top.add(i);
+            }
+        }
+
+        Long[] result = new Long[top.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = recipeIds[docs[top.poll()]];
+        }
+        return Arrays.asList(result);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= recipeIds.length) {
+            return;
+        }
+        int newLength = Math.max(capacity, recipeIds.length * 2);
+        recipeIds = Arrays.copyOf(recipeIds, newLength);
+        versions = Arrays.copyOf(versions, newLength);
+        docLengths = Arrays.copyOf(docLengths, newLength);
+    }
+
+    // 문서 번호 순으로 정렬된 (문서 번호, 가중 빈도) 목록
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(int doc, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size] = frequency;
+            size++;
+        }
+    }
+}
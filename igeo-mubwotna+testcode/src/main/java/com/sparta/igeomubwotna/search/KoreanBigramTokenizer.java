@@ -0,0 +1,118 @@
+package com.sparta.igeomubwotna.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 검색어 / 레시피 제목, 본문을 색인 단위(term)로 나눔
+// - 한글은 형태소 분석 없이 붙어 있는 글자를 두 글자씩 겹쳐서 자름 (김치찌개 -> 김치, 치찌, 찌개)
+//   색인할 때는 한 글자 검색어(국)도 찾도록 글자 하나씩도 함께 색인
+//   검색어는 세 글자 이상 이어진 한글의 마지막 bigram을 선택 term으로 둬서 조사가 붙어도(김치를 -> 치를) 검색됨
+// - 영문 / 숫자는 이어진 부분을 하나의 term으로 (소문자)
+// - 그 밖의 문자(공백, 기호)는 구분자
+public class KoreanBigramTokenizer {
+
+    // 검색어 term: required는 모두 들어 있어야 하고, optional은 있으면 점수만 더함
+    public record QueryTerms(List<String> required, List<String> optional) {
+    }
+
+    public List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        split(text, (codePoints, start, end) -> addBigrams(terms, codePoints, start, end),
+                (codePoints, start, end) -> terms.add(new String(codePoints, start, end - start)));
+        return terms;
+    }
+
+    // 레시피 제목 / 본문: bigram + 글자 하나씩
+    public List<String> tokenizeDocument(String text) {
+        List<String> terms = new ArrayList<>();
+        split(text, (codePoints, start, end) -> {
+                    addBigrams(terms, codePoints, start, end);
+                    if (end - start > 1) {
+                        addUnigrams(terms, codePoints, start, end);
+                    }
+                },
+                (codePoints, start, end) -> terms.add(new String(codePoints, start, end - start)));
+        return terms;
+    }
+
+    // 검색어: 세 글자 이상 이어진 한글의 마지막 bigram만 선택 term (조사 / 어미일 수 있음)
+    public QueryTerms tokenizeQuery(String query) {
+        List<String> required = new ArrayList<>();
+        List<String> optional = new ArrayList<>();
+        split(query, (codePoints, start, end) -> {
+                    if (end - start < 3) {
+                        addBigrams(required, codePoints, start, end);
+                        return;
+                    }
+                    addBigrams(required, codePoints, start, end - 1);
+                    optional.add(new String(codePoints, end - 2, 2));
+                },
+                (codePoints, start, end) -> required.add(new String(codePoints, start, end - start)));
+        List<String> distinctRequired = required.stream().distinct().toList();
+        return new QueryTerms(distinctRequired,
+                optional.stream().distinct().filter(term -> !distinctRequired.contains(term)).toList());
+    }
+
+    private void split(String text, Run hangul, Run word) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        int[] codePoints = normalized.codePoints().toArray();
+        int start = 0;
+        while (start < codePoints.length) {
+            Kind kind = kindOf(codePoints[start]);
+            int end = start + 1;
+            while (end < codePoints.length && kindOf(codePoints[end]) == kind) {
+                end++;
+            }
+
+            if (kind == Kind.HANGUL) {
+                hangul.accept(codePoints, start, end);
+            } else if (kind == Kind.WORD) {
+                word.accept(codePoints, start, end);
+            }
+            start = end;
+        }
+    }
+
+    private void addBigrams(List<String> terms, int[] codePoints, int start, int end) {
+        if (end - start == 1) {
+            terms.add(new String(codePoints, start, 1));
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            terms.add(new String(codePoints, i, 2));
+        }
+    }
+
+    private void addUnigrams(List<String> terms, int[] codePoints, int start, int end) {
+        for (int i = start; i < end; i++) {
+            terms.add(new String(codePoints, i, 1));
+        }
+    }
+
+    private Kind kindOf(int codePoint) {
+        if (Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL) {
+            return Kind.HANGUL;
+        }
+        if (Character.isLetterOrDigit(codePoint)) {
+            return Kind.WORD;
+        }
+        return Kind.SEPARATOR;
+    }
+
+    // 같은 종류의 문자가 이어진 구간 [start, end)
+    private interface Run {
+        void accept(int[] codePoints, int start, int end);
+    }
+
+    private enum Kind {
+        HANGUL,
+        WORD,
+        SEPARATOR
+    }
+}
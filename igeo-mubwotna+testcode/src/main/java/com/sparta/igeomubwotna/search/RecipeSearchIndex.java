@@ -0,0 +1,239 @@
+package com.sparta.igeomubwotna.search;
+
+import com.sparta.igeomubwotna.event.RecipeChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 레시피 검색용 메모리 역색인 (InvertedIndex) 관리
+// - 기동 시 recipe 전체를 id 순으로 나눠 읽어서 색인 (전용 스레드 하나, 끝나기 전까지는 색인된 만큼만 검색됨)
+// - 이 서버에서 작성 / 수정 / 삭제가 커밋되면 해당 레시피만 다시 색인
+// - 다른 서버에서 바뀐 레시피는 sync-interval-ms마다 (modified_at, id) 순으로 나눠 읽어서 반영 (대량 등록 후에도 한 번에 다 올리지 않음)
+// - 다른 서버에서 삭제된 레시피는 purge-interval-ms마다 색인된 id를 recipe의 id와 비교해서 삭제 표시
+// - 삭제 표시된 문서가 살아 있는 문서보다 많아지면 처음부터 다시 만들어서 교체
+@Slf4j(topic = "RecipeSearchIndex")
+@Component
+public class RecipeSearchIndex implements DisposableBean {
+
+    private static final int LOAD_BATCH = 1_000;
+    // 커밋이 늦게 된 수정도 놓치지 않도록 마지막 확인 시각보다 조금 앞부터 다시 읽음 (같은 버전은 건너뜀)
+    private static final long SYNC_OVERLAP_SECONDS = 10;
+    // 삭제 표시 문서가 이 수보다 적으면 다시 만들지 않음
+    private static final int MIN_DELETED_FOR_REBUILD = 10_000;
+    // 삭제된 레시피 확인 시 한 번에 읽는 id 수
+    private static final int PURGE_BATCH = 10_000;
+
+    private static final String SELECT_COLUMNS = "SELECT id, title, content, modified_at FROM recipe ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final KoreanBigramTokenizer tokenizer = new KoreanBigramTokenizer();
+    private final int maxResults;
+
+    private volatile InvertedIndex index;
+    private volatile LocalDateTime syncedAt;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // 다시 만들기 전용 스레드 (실행 중이면 한 번만 더 예약하고 나머지 요청은 버림, 종료 시 중단)
+    private final ThreadPoolExecutor rebuildExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1),
+            runnable -> {
+                Thread thread = new Thread(runnable, "recipe-search-rebuild");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.DiscardPolicy());
+    // 다시 만드는 동안 바뀐 레시피 (교체 후 새 색인에 다시 반영)
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    public RecipeSearchIndex(JdbcTemplate jdbcTemplate,
+                             @Value("${recipe.search.max-results}") int maxResults,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxResults = maxResults;
+        this.index = new InvertedIndex(tokenizer);
+
+        Gauge.builder("recipe.search.documents", this, search -> search.index.size()).register(meterRegistry);
+        Gauge.builder("recipe.search.terms", this, search -> search.index.terms()).register(meterRegistry);
+        Gauge.builder("recipe.search.deleted", this, search -> search.index.deletedDocs()).register(meterRegistry);
+    }
+
+    // 점수 순 레시피 id (최대 max-results개)
+    public List<Long> search(String query) {
+        return index.search(query, maxResults);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuildInBackground();
+    }
+
+    // 스케줄러 스레드(좋아요 수 반영 등과 공유)를 오래 잡지 않도록 전용 스레드에서 실행
+    public void rebuildInBackground() {
+        rebuildExecutor.execute(this::rebuild);
+    }
+
+    @Override
+    public void destroy() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            changedDuringRebuild.clear();
+            InvertedIndex rebuilt = new InvertedIndex(tokenizer);
+            long lastId = 0L;
+            while (true) {
+                List<RecipeText> batch = jdbcTemplate.query(SELECT_COLUMNS + "WHERE id > ? ORDER BY id LIMIT ?",
+                        this::mapRow, lastId, LOAD_BATCH);
+                batch.forEach(recipe -> recipe.indexInto(rebuilt));
+                if (batch.size() < LOAD_BATCH) {
+                    break;
+                }
+                // 종료 중이면 만들던 색인은 버림
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                lastId = batch.get(batch.size() - 1).id();
+            }
+
+            index = rebuilt;
+            syncedAt = startedAt;
+            changedDuringRebuild.forEach(this::reindex);
+            log.info("레시피 검색 색인 완료: 레시피 {}개, term {}개", rebuilt.size(), rebuilt.terms());
+        } catch (RuntimeException e) {
+            log.error("레시피 검색 색인 실패: {}", e.getMessage(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (event.getType() == RecipeChangedEvent.Type.LIKED) {
+            return;
+        }
+        if (rebuilding.get()) {
+            changedDuringRebuild.add(event.getRecipeId());
+        }
+        if (event.getType() == RecipeChangedEvent.Type.DELETED) {
+            index.remove(event.getRecipeId());
+        } else {
+            reindex(event.getRecipeId());
+        }
+    }
+
+    // 다른 서버에서 작성 / 수정된 레시피 반영
+    @Scheduled(fixedDelayString = "${recipe.search.sync-interval-ms}")
+    public void sync() {
+        LocalDateTime from = syncedAt;
+        if (from == null || rebuilding.get()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<RecipeText> batch = jdbcTemplate.query(SELECT_COLUMNS + "WHERE modified_at >= ? ORDER BY modified_at, id LIMIT ?",
+                this::mapRow, Timestamp.valueOf(from.minusSeconds(SYNC_OVERLAP_SECONDS)), LOAD_BATCH);
+        while (true) {
+            batch.forEach(recipe -> recipe.indexInto(index));
+            if (batch.size() < LOAD_BATCH) {
+                break;
+            }
+            RecipeText last = batch.get(batch.size() - 1);
+            batch = jdbcTemplate.query(SELECT_COLUMNS + "WHERE modified_at > ? OR (modified_at = ? AND id > ?) " +
+                            "ORDER BY modified_at, id LIMIT ?",
+                    this::mapRow, last.modifiedAt(), last.modifiedAt(), last.id(), LOAD_BATCH);
+        }
+        syncedAt = now;
+
+        rebuildIfFragmented();
+    }
+
+    // 다른 서버에서 삭제된 레시피 반영 (색인된 id와 recipe의 id를 둘 다 오름차순으로 비교)
+    @Scheduled(fixedDelayString = "${recipe.search.purge-interval-ms}")
+    public void purgeDeleted() {
+        if (syncedAt == null || rebuilding.get()) {
+            return;
+        }
+        InvertedIndex current = index;
+        long[] indexed = current.recipeIds();
+        int next = 0;
+        int removed = 0;
+        long lastId = 0L;
+        while (next < indexed.length) {
+            List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM recipe WHERE id > ? ORDER BY id LIMIT ?",
+                    Long.class, lastId, PURGE_BATCH);
+            for (Long id : ids) {
+                while (next < indexed.length && indexed[next] < id) {
+                    current.remove(indexed[next++]);
+                    removed++;
+                }
+                if (next < indexed.length && indexed[next] == id) {
+                    next++;
+                }
+            }
+            if (ids.size() < PURGE_BATCH) {
+                while (next < indexed.length) {
+                    current.remove(indexed[next++]);
+                    removed++;
+                }
+                break;
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+
+        if (removed > 0) {
+            log.info("다른 서버에서 삭제된 레시피 {}개 검색 색인에서 제거", removed);
+            rebuildIfFragmented();
+        }
+    }
+
+    private void rebuildIfFragmented() {
+        InvertedIndex current = index;
+        if (current.deletedDocs() > Math.max(current.size(), MIN_DELETED_FOR_REBUILD)) {
+            rebuildInBackground();
+        }
+    }
+
+    private void reindex(Long recipeId) {
+        List<RecipeText> found = jdbcTemplate.query(SELECT_COLUMNS + "WHERE id = ?", this::mapRow, recipeId);
+        if (found.isEmpty()) {
+            index.remove(recipeId);
+        } else {
+            found.get(0).indexInto(index);
+        }
+    }
+
+    private RecipeText mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new RecipeText(rs.getLong("id"), rs.getTimestamp("modified_at"), rs.getString("title"), rs.getString("content"));
+    }
+
+    // modifiedAt은 다음 페이지 조회 기준으로도 쓰므로 마이크로초까지 그대로 보관
+    private record RecipeText(long id, Timestamp modifiedAt, String title, String content) {
+        void indexInto(InvertedIndex index) {
+            index.index(id, modifiedAt == null ? 0L : modifiedAt.getTime(), title, content);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.sparta.igeomubwotna.search;
+
+import com.sparta.igeomubwotna.dto.RecipeTitleSuggestionDto;
+import com.sparta.igeomubwotna.event.RecipeChangedEvent;
+import com.sparta.igeomubwotna.event.RecipesImportedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+// 레시피 제목 자동완성 (좋아요 많은 순 상위 K개), SQL 없이 메모리의 TitleDictionary에서 조회
+// - 기동 시 / refresh-interval-ms마다 recipe 전체(id, title, recipe_likes)를 읽어서 사전을 새로 만듦 (좋아요 순위 갱신)
+// - 작성 / 수정 / 삭제가 커밋되면 변경분(overlay)에만 기록하고, 조회 시 사전 결과와 합침
+// - overlay가 overlay-max를 넘으면 사전 + overlay를 메모리에서 합쳐 새 사전으로 교체 (DB 조회 없음)
+// - 다시 읽기 / 합치기는 전용 스레드 하나에서 차례로 실행 (실행 중이면 한 번만 더 예약, 종료 시 중단)
+@Slf4j(topic = "TitleAutocomplete")
+@Component
+public class TitleAutocomplete implements DisposableBean {
+
+    private static final int LOAD_BATCH = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int limit;
+    private final int overlayMax;
+
+    // 사전과, 사전을 만든 뒤 바뀐 레시피 (title이 null이면 삭제)
+    private volatile State state = new State(TitleDictionary.EMPTY, new ConcurrentHashMap<>());
+    // 새 사전을 만드는 동안 바뀐 레시피 (교체 후 overlay가 됨)
+    private ConcurrentHashMap<Long, TitleDictionary.Entry> nextOverlay;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1),
+            runnable -> {
+                Thread thread = new Thread(runnable, "title-autocomplete");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.DiscardPolicy());
+
+    public TitleAutocomplete(JdbcTemplate jdbcTemplate,
+                             @Value("${recipe.autocomplete.limit}") int limit,
+                             @Value("${recipe.autocomplete.overlay-max}") int overlayMax,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.limit = limit;
+        this.overlayMax = overlayMax;
+
+        Gauge.builder("recipe.autocomplete.titles", this, autocomplete -> autocomplete.state.dictionary().size())
+                .register(meterRegistry);
+        Gauge.builder("recipe.autocomplete.bytes", this, autocomplete -> autocomplete.state.dictionary().estimatedBytes())
+                .register(meterRegistry);
+        Gauge.builder("recipe.autocomplete.overlay", this, autocomplete -> autocomplete.state.overlay().size())
+                .register(meterRegistry);
+    }
+
+    public List<RecipeTitleSuggestionDto> suggest(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        String trimmed = prefix.strip();
+        State current = state;
+        Map<Long, TitleDictionary.Entry> overlay = current.overlay();
+
+        // overlay에 있는 레시피는 사전의 예전 값 대신 overlay 값을 사용
+        List<RecipeTitleSuggestionDto> result = new ArrayList<>(
+                current.dictionary().top(trimmed, limit, overlay::containsKey));
+        for (TitleDictionary.Entry entry : overlay.values()) {
+            if (entry.title() != null && startsWithIgnoreCase(entry.title(), trimmed)) {
+                result.add(new RecipeTitleSuggestionDto(entry.id(), entry.title(), entry.likes()));
+            }
+        }
+        if (overlay.isEmpty()) {
+            return result;
+        }
+        return result.stream()
+                .sorted(Comparator.comparing(RecipeTitleSuggestionDto::getRecipeLikes)
+                        .thenComparing(RecipeTitleSuggestionDto::getId).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (event.getType() == RecipeChangedEvent.Type.LIKED) {
+            return;
+        }
+        Long recipeId = event.getRecipeId();
+        TitleDictionary.Entry entry = event.getType() == RecipeChangedEvent.Type.DELETED ? null
+                : jdbcTemplate.query("SELECT id, title, recipe_likes FROM recipe WHERE id = ?", this::mapRow, recipeId)
+                .stream().findFirst().orElse(null);
+        put(entry == null ? new TitleDictionary.Entry(recipeId, null, 0L) : entry);
+
+        if (state.overlay().size() > overlayMax) {
+            compactInBackground();
+        }
+    }
+
+    // 대량 등록된 레시피는 레시피마다 조회하지 않고 전체를 다시 읽음
+    @EventListener
+    public void onRecipesImported(RecipesImportedEvent event) {
+        runInBackground(this::reload);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        runInBackground(this::reload);
+    }
+
+    // 좋아요 순위 갱신
+    @Scheduled(fixedDelayString = "${recipe.autocomplete.refresh-interval-ms}", initialDelayString = "${recipe.autocomplete.refresh-interval-ms}")
+    public void refresh() {
+        runInBackground(this::reload);
+    }
+
+    // DB에서 전체를 다시 읽어서 사전을 만듦
+    public void reload() {
+        rebuild(() -> {
+            List<TitleDictionary.Entry> entries = new ArrayList<>();
+            long lastId = 0L;
+            while (true) {
+                List<TitleDictionary.Entry> batch = jdbcTemplate.query(
+                        "SELECT id, title, recipe_likes FROM recipe WHERE id > ? ORDER BY id LIMIT ?",
+                        this::mapRow, lastId, LOAD_BATCH);
+                entries.addAll(batch);
+                if (batch.size() < LOAD_BATCH) {
+                    return entries;
+                }
+                lastId = batch.get(batch.size() - 1).id();
+            }
+        });
+    }
+
+    // 지금 사전 + overlay를 합쳐서 사전을 만듦
+    public void compact() {
+        rebuild(() -> {
+            State current = state;
+            Map<Long, TitleDictionary.Entry> merged = new HashMap<>();
+            TitleDictionary dictionary = current.dictionary();
+            for (int i = 0; i < dictionary.size(); i++) {
+                merged.put(dictionary.id(i), new TitleDictionary.Entry(dictionary.id(i), dictionary.title(i), dictionary.likes(i)));
+            }
+            current.overlay().forEach((id, entry) -> {
+                if (entry.title() == null) {
+                    merged.remove(id);
+                } else {
+                    merged.put(id, entry);
+                }
+            });
+            return new ArrayList<>(merged.values());
+        });
+    }
+
+    private void rebuild(Supplier<List<TitleDictionary.Entry>> loader) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            synchronized (this) {
+                nextOverlay = new ConcurrentHashMap<>();
+            }
+            TitleDictionary dictionary = TitleDictionary.build(loader.get());
+            synchronized (this) {
+                state = new State(dictionary, nextOverlay);
+                nextOverlay = null;
+            }
+            log.info("제목 자동완성 사전 교체: 제목 {}개, 약 {}KB", dictionary.size(), dictionary.estimatedBytes() / 1024);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                nextOverlay = null;
+            }
+            log.error("제목 자동완성 사전 생성 실패: {}", e.getMessage(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private synchronized void put(TitleDictionary.Entry entry) {
+        state.overlay().put(entry.id(), entry);
+        if (nextOverlay != null) {
+            nextOverlay.put(entry.id(), entry);
+        }
+    }
+
+    private void compactInBackground() {
+        if (!rebuilding.get()) {
+            runInBackground(this::compact);
+        }
+    }
+
+    // 스케줄러 / 요청 스레드를 오래 잡지 않도록 전용 스레드에서 실행
+    private void runInBackground(Runnable task) {
+        executor.execute(task);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private TitleDictionary.Entry mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new TitleDictionary.Entry(rs.getLong("id"), rs.getString("title"), rs.getLong("recipe_likes"));
+    }
+
+    private boolean startsWithIgnoreCase(String title, String prefix) {
+        return title.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    private record State(TitleDictionary dictionary, ConcurrentHashMap<Long, TitleDictionary.Entry> overlay) {
+    }
+}
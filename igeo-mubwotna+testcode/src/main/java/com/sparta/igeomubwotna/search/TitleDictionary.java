@@ -0,0 +1,182 @@
+package com.sparta.igeomubwotna.search;
+
+import com.sparta.igeomubwotna.dto.RecipeTitleSuggestionDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.LongPredicate;
+
+// 제목 자동완성용 불변 사전
+// - 제목을 (소문자 기준) 정렬해서 char[] 하나에 이어 붙여 저장 (제목마다 String 객체를 두지 않음)
+// - 같은 접두어로 시작하는 제목은 정렬 순서상 연속된 구간이므로 이진 탐색 두 번으로 구간을 찾음
+// - 구간 안에서 좋아요가 가장 많은 제목은 세그먼트 트리(구간 최댓값 위치)로 찾고,
+//   찾은 위치를 기준으로 구간을 둘로 나눠 힙에 넣는 방식으로 상위 K개를 O(K log n)에 꺼냄
+public final class TitleDictionary {
+
+    public static final TitleDictionary EMPTY = build(List.of());
+
+    private final char[] chars;
+    private final int[] offsets;
+    private final long[] ids;
+    private final long[] likes;
+    // 구간별 좋아요 최댓값 위치 (tree[size + i] = i)
+    private final int[] tree;
+    private final int size;
+
+    private TitleDictionary(char[] chars, int[] offsets, long[] ids, long[] likes) {
+        this.chars = chars;
+        this.offsets = offsets;
+        this.ids = ids;
+        this.likes = likes;
+        this.size = ids.length;
+        this.tree = new int[Math.max(2 * size, 2)];
+        for (int i = 0; i < size; i++) {
+            tree[size + i] = i;
+        }
+        for (int node = size - 1; node > 0; node--) {
+            tree[node] = better(tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    public static TitleDictionary build(List<Entry> entries) {
+        Entry[] sorted = entries.toArray(new Entry[0]);
+        Arrays.sort(sorted, Comparator.comparing(Entry::title, TitleDictionary::compareIgnoreCase));
+
+        int totalLength = 0;
+        for (Entry entry : sorted) {
+            totalLength += entry.title().length();
+        }
+        char[] chars = new char[totalLength];
+        int[] offsets = new int[sorted.length + 1];
+        long[] ids = new long[sorted.length];
+        long[] likes = new long[sorted.length];
+        int position = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            String title = sorted[i].title();
+            title.getChars(0, title.length(), chars, position);
+            offsets[i] = position;
+            position += title.length();
+            ids[i] = sorted[i].id();
+            likes[i] = sorted[i].likes();
+        }
+        offsets[sorted.length] = position;
+        return new TitleDictionary(chars, offsets, ids, likes);
+    }
+
+    // prefix로 시작하는 제목 중 좋아요가 많은 순으로 최대 limit개 (skip이 true인 id는 제외)
+    public List<RecipeTitleSuggestionDto> top(String prefix, int limit, LongPredicate skip) {
+        List<RecipeTitleSuggestionDto> result = new ArrayList<>(limit);
+        int from = bound(prefix, false);
+        int to = bound(prefix, true);
+        if (from >= to || limit <= 0) {
+            return result;
+        }
+
+        // int[]{구간 시작, 구간 끝, 구간 최댓값 위치}
+        PriorityQueue<int[]> ranges = new PriorityQueue<>((a, b) -> better(a[2], b[2]) == a[2] ? -1 : 1);
+        ranges.add(new int[]{from, to, argmax(from, to)});
+        while (!ranges.isEmpty() && result.size() < limit) {
+            int[] range = ranges.poll();
+            int best = range[2];
+            if (!skip.test(ids[best])) {
+                result.add(new RecipeTitleSuggestionDto(ids[best], title(best), likes[best]));
+            }
+            if (range[0] < best) {
+                ranges.add(new int[]{range[0], best, argmax(range[0], best)});
+            }
+            if (best + 1 < range[1]) {
+                ranges.add(new int[]{best + 1, range[1], argmax(best + 1, range[1])});
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long id(int index) {
+        return ids[index];
+    }
+
+    public String title(int index) {
+        return new String(chars, offsets[index], offsets[index + 1] - offsets[index]);
+    }
+
+    public long likes(int index) {
+        return likes[index];
+    }
+
+    // 배열에 들어간 대략적인 바이트 수
+    public long estimatedBytes() {
+        return 2L * chars.length + 4L * offsets.length + 8L * ids.length + 8L * likes.length + 4L * tree.length;
+    }
+
+    // upper가 false면 prefix 이상인 첫 위치, true면 prefix로 시작하는 구간 다음 위치
+    private int bound(String prefix, boolean upper) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int compared = comparePrefix(middle, prefix);
+            if (compared < 0 || (upper && compared == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // index번째 제목이 prefix로 시작하면 0
+    private int comparePrefix(int index, String prefix) {
+        int start = offsets[index];
+        int length = offsets[index + 1] - start;
+        int common = Math.min(length, prefix.length());
+        for (int i = 0; i < common; i++) {
+            int compared = Character.compare(Character.toLowerCase(chars[start + i]), Character.toLowerCase(prefix.charAt(i)));
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return length >= prefix.length() ? 0 : -1;
+    }
+
+    private int argmax(int from, int to) {
+        int best = from;
+        for (int low = from + size, high = to + size; low < high; low >>= 1, high >>= 1) {
+            if ((low & 1) == 1) {
+                best = better(best, tree[low++]);
+            }
+            if ((high & 1) == 1) {
+                best = better(best, tree[--high]);
+            }
+        }
+        return best;
+    }
+
+    // 좋아요가 많은 쪽, 같으면 최근 레시피(id가 큰 쪽)
+    private int better(int a, int b) {
+        if (likes[a] != likes[b]) {
+            return likes[a] > likes[b] ? a : b;
+        }
+        return ids[a] >= ids[b] ? a : b;
+    }
+
+    static int compareIgnoreCase(String a, String b) {
+        int common = Math.min(a.length(), b.length());
+        for (int i = 0; i < common; i++) {
+            int compared = Character.compare(Character.toLowerCase(a.charAt(i)), Character.toLowerCase(b.charAt(i)));
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return Integer.compare(a.length(), b.length());
+    }
+
+    public record Entry(long id, String title, long likes) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.sparta.igeomubwotna.security;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+// 비밀번호 해시 작업 대기열이 가득 차서 작업을 받지 못했을 때 (503)
+public class PasswordHashingRejectedException extends ResponseStatusException {
+    public PasswordHashingRejectedException() {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 잠시 후 다시 시도해주세요.");
+    }
+}
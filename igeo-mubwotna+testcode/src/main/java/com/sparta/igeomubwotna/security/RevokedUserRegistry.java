@@ -0,0 +1,76 @@
+package com.sparta.igeomubwotna.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.igeomubwotna.jwt.JwtUtil;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+// 로그아웃 / 탈퇴한 사용자의 PK와 그 시각(revocation epoch)을 user_revocation 테이블에 기록
+// 이 시각 이전에 발급된 AccessToken은 Claim만 믿지 않고 DB로 다시 확인하게 함
+// 모든 서버가 같은 테이블을 보므로 다른 서버에서 로그아웃 / 탈퇴한 사용자도 막힘
+// 요청마다 DB를 읽지 않도록 사용자별 시각을 cache-ttl-ms 동안 캐시 (다른 서버의 기록은 최대 이 시간만큼 늦게 반영)
+@Component
+public class RevokedUserRegistry {
+
+    // 기록이 없는 사용자
+    private static final long NONE = 0L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<Long, Long> revokedAt;
+
+    public RevokedUserRegistry(JdbcTemplate jdbcTemplate,
+                               @Value("${security.revocation.cache-maximum-size}") long maximumSize,
+                               @Value("${security.revocation.cache-ttl-ms}") long cacheTtlMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.revokedAt = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(cacheTtlMs))
+                .build();
+    }
+
+    @PostConstruct
+    public void createTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS user_revocation (" +
+                "user_id BIGINT NOT NULL PRIMARY KEY, " +
+                "revoked_at BIGINT NOT NULL)");
+    }
+
+    public void revoke(Long userPk) {
+        long now = System.currentTimeMillis();
+        // 여러 서버에서 동시에 기록해도 가장 늦은 시각을 남김
+        jdbcTemplate.update("INSERT INTO user_revocation (user_id, revoked_at) VALUES (?, ?) " +
+                "ON DUPLICATE KEY UPDATE revoked_at = GREATEST(revoked_at, VALUES(revoked_at))", userPk, now);
+        revokedAt.put(userPk, now);
+    }
+
+    // issuedAt 시점에 발급된 토큰이 로그아웃 / 탈퇴 이전에 발급되었는지 확인
+    public boolean isRevoked(Long userPk, Date issuedAt) {
+        long revokedTime = revokedAt.get(userPk, this::load);
+        if (revokedTime == NONE) {
+            return false;
+        }
+        // iat는 초 단위라서 같은 초에 발급된 토큰도 DB로 확인하도록 보수적으로 비교
+        return issuedAt == null || issuedAt.getTime() <= revokedTime;
+    }
+
+    private Long load(Long userPk) {
+        List<Long> times = jdbcTemplate.queryForList(
+                "SELECT revoked_at FROM user_revocation WHERE user_id = ?", Long.class, userPk);
+        return times.isEmpty() ? NONE : times.get(0);
+    }
+
+    // AccessToken 유효시간이 지난 기록은 더 이상 필요 없으므로 정리
+    @Scheduled(fixedRateString = "${jwt.revocation.purge-interval-ms}")
+    public void purgeExpired() {
+        long threshold = System.currentTimeMillis() - JwtUtil.ACCESS_TOKEN_TIME;
+        jdbcTemplate.update("DELETE FROM user_revocation WHERE revoked_at < ?", threshold);
+    }
+}
@@ -1,24 +1,58 @@
 package com.sparta.igeomubwotna.security;
 
-import com.sparta.igeomubwotna.entity.User;
 import com.sparta.igeomubwotna.repository.UserRepository;
+import com.sparta.igeomubwotna.repository.UserRepository.CredentialsView;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 @Service
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     // Override 함수라 함수명이 고정입니다
+    // 로그인(비밀번호 검증)에 쓰이므로 캐시된 스냅샷을 그대로 믿지 않고 현재 비밀번호 해시 / 상태와 비교
+    // 다른 서버에서 비밀번호를 바꾸거나 탈퇴했으면 캐시를 버리고 다시 읽음
+    // 캐시에 없어서 방금 DB에서 읽은 스냅샷은 현재 값이므로 다시 비교하지 않음 (users 조회는 항상 한 번)
     @Override
     public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
-        User user = userRepository.findByUserId(userId)
+        AtomicBoolean loaded = new AtomicBoolean();
+        UserSnapshot snapshot = userPrincipalCache.get(userId, id -> {
+            loaded.set(true);
+            return load(id);
+        });
+        if (loaded.get()) {
+            return new UserDetailsImpl(snapshot.toUser());
+        }
+
+        CredentialsView current = userRepository.findCredentialsByUserId(userId).orElse(null);
+        if (current == null) {
+            userPrincipalCache.invalidate(userId);
+            throw new UsernameNotFoundException("User not found with userId: " + userId);
+        }
+        if (!snapshot.matches(current.getPassword(), current.getStatus())) {
+            userPrincipalCache.invalidate(userId);
+            snapshot = userPrincipalCache.get(userId, this::load);
+        }
+        return new UserDetailsImpl(snapshot.toUser());
+    }
+
+    // 인가 필터의 DB 경로용: 바로 앞에서 users를 조회해 존재 / 탈퇴 여부를 확인했으므로 캐시된 스냅샷을 그대로 사용
+    public UserDetails loadCachedUserByUsername(String userId) throws UsernameNotFoundException {
+        return new UserDetailsImpl(userPrincipalCache.get(userId, this::load).toUser());
+    }
+
+    // 캐시에 없을 때만 DB에서 읽어 스냅샷으로 보관
+    private UserSnapshot load(String userId) {
+        return userRepository.findByUserId(userId)
+                .map(UserSnapshot::new)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with userId: " + userId));
-        return new UserDetailsImpl(user);
     }
-}
\ No newline at end of file
+}
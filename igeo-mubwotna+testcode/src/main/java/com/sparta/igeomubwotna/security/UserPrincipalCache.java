@@ -0,0 +1,55 @@
+package com.sparta.igeomubwotna.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.igeomubwotna.event.UserChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// userId -> UserSnapshot 캐시
+// 크기 / TTL 제한이 있고, 사용자 정보 변경 트랜잭션이 커밋되면 해당 사용자를 즉시 제거
+// 커밋 이벤트는 같은 서버에만 전달되므로 로그인 시에는 UserDetailsServiceImpl이 DB의 비밀번호 해시 / 상태와 비교한 뒤에만 사용
+@Component
+public class UserPrincipalCache {
+
+    private final Cache<String, UserSnapshot> cache;
+
+    public UserPrincipalCache(@Value("${security.principal-cache.maximum-size}") long maximumSize,
+                              @Value("${security.principal-cache.ttl-seconds}") long ttlSeconds,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        // cache.gets(hit/miss), cache.load.duration(로드 지연시간) 등 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userPrincipal");
+        // 활성 사용자 수 대비 크기를 잡을 수 있도록 적중률도 바로 노출
+        Gauge.builder("user.principal.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .register(meterRegistry);
+    }
+
+    // 없으면 loader로 읽어와서 저장 (loader 예외는 그대로 전달되고 캐시에는 남지 않음)
+    public UserSnapshot get(String userId, Function<String, UserSnapshot> loader) {
+        return cache.get(userId, loader);
+    }
+
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+    }
+
+    // 프로필 수정 / 로그아웃 / 탈퇴가 커밋된 시점에 제거
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+}
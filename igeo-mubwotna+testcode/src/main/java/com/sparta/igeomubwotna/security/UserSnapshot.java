@@ -0,0 +1,33 @@
+package com.sparta.igeomubwotna.security;
+
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.entity.UserStatusEnum;
+import lombok.Getter;
+
+import java.util.Objects;
+
+// 인증에 필요한 값만 담은 불변 사용자 스냅샷 (recipes, comments 연관관계는 담지 않음)
+@Getter
+public final class UserSnapshot {
+    private final Long id;
+    private final String userId;
+    private final String password;
+    private final UserStatusEnum status;
+
+    public UserSnapshot(User user) {
+        this.id = user.getId();
+        this.userId = user.getUserId();
+        this.password = user.getPassword();
+        this.status = user.getStatus();
+    }
+
+    // DB의 현재 비밀번호 해시 / 상태와 같은지 확인 (다르면 다른 서버에서 비밀번호 변경 / 탈퇴한 것)
+    public boolean matches(String currentPassword, UserStatusEnum currentStatus) {
+        return Objects.equals(password, currentPassword) && status == currentStatus;
+    }
+
+    // 요청마다 새 detached User를 만들어 캐시된 값이 변경되지 않도록 함
+    public User toUser() {
+        return new User(id, userId, password, status);
+    }
+}
@@ -0,0 +1,60 @@
+package com.sparta.igeomubwotna.service;
+
+import com.sparta.igeomubwotna.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 목록 응답을 만드는 동안 작성자 PK를 모아 두었다가 IN 쿼리 한 번으로 userId를 조회 (DataLoader 방식)
+// 요청 단위로 결과를 기억하므로 같은 요청 안에서 같은 작성자를 다시 조회하지 않음
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class AuthorResolver {
+
+    private final UserRepository userRepository;
+
+    private final Set<Long> pending = new LinkedHashSet<>();
+    private final Map<Long, String> resolved = new HashMap<>();
+
+    // 조회할 작성자 PK 등록 (이 시점에는 쿼리를 보내지 않음)
+    public void load(Long userPk) {
+        if (userPk != null && !resolved.containsKey(userPk)) {
+            pending.add(userPk);
+        }
+    }
+
+    public void loadAll(Collection<Long> userPks) {
+        userPks.forEach(this::load);
+    }
+
+    // 아직 조회하지 않은 PK가 있으면 모아 둔 PK 전체를 한 번에 조회한 뒤 반환
+    public String getUserId(Long userPk) {
+        if (userPk == null) {
+            return null;
+        }
+        if (!resolved.containsKey(userPk)) {
+            pending.add(userPk);
+            dispatch();
+        }
+        return resolved.get(userPk);
+    }
+
+    private void dispatch() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        userRepository.findUserIdsByIdIn(List.copyOf(pending))
+                .forEach(view -> resolved.put(view.getId(), view.getUserId()));
+        // 탈퇴 등으로 조회되지 않은 PK도 다시 조회하지 않도록 기록
+        pending.forEach(userPk -> resolved.putIfAbsent(userPk, null));
+        pending.clear();
+    }
+}
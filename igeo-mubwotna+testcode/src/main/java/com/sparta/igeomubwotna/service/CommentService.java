@@ -1,16 +1,23 @@
 package com.sparta.igeomubwotna.service;
 
+import com.sparta.igeomubwotna.counter.LikeCounter;
 import com.sparta.igeomubwotna.dto.CommentRequestDto;
 import com.sparta.igeomubwotna.dto.CommentResponseDto;
+import com.sparta.igeomubwotna.dto.CommentVersionDto;
+import com.sparta.igeomubwotna.dto.CursorPageResponseDto;
+import com.sparta.igeomubwotna.dto.FeedCursor;
 import com.sparta.igeomubwotna.entity.Comment;
 import com.sparta.igeomubwotna.entity.Recipe;
 import com.sparta.igeomubwotna.entity.User;
 import com.sparta.igeomubwotna.repository.CommentRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,6 +28,14 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final RecipeService recipeService;
     private final UserService userService;
+    private final AuthorResolver authorResolver;
+    private final LikeCounter likeCounter;
+
+    @Value("${comment.page.default-size}")
+    private int defaultPageSize;
+
+    @Value("${comment.page.max-size}")  // 요청한 size가 더 커도 이 값까지만 조회
+    private int maxPageSize;
 
     /* Create : 댓글 작성 */
     public ResponseEntity createComment(CommentRequestDto requestDto, Long recipeId, User user) {
@@ -37,12 +52,63 @@ public class CommentService {
         List<Comment> commentList = commentRepository.findByRecipeId(recipeId);
         List<CommentResponseDto> commentResponseDtoList = new ArrayList<>();
 
+        // 작성자를 먼저 모두 등록해 두면 첫 조회 때 IN 쿼리 한 번으로 끝남
+        for (Comment comment : commentList) {
+            authorResolver.load(comment.getUser().getId());
+        }
         for (Comment comment : commentList) {
-            commentResponseDtoList.add(CommentResponseDto.toDto(comment));
+            commentResponseDtoList.add(CommentResponseDto.toDto(comment,
+                    authorResolver.getUserId(comment.getUser().getId()), likeCounter.getCommentLikes(comment)));
         }
         return commentResponseDtoList;
     }
 
+    /* Read : 댓글 목록 응답의 ETag (댓글 수, 최대 id, 최근 수정 시각, 좋아요 합계를 집계 쿼리 한 번으로 조회) */
+    // 좋아요는 like_count에 반영된 값 기준 (이 서버에 쌓인 증감분은 like.counter.flush-interval-ms 안에 반영됨)
+    public String getCommentETag(Long recipeId) {
+        CommentVersionDto version = commentRepository.findVersionByRecipeId(recipeId);
+        return new VersionTag().add(recipeId)
+                .add(version.getCount())
+                .add(version.getMaxId())
+                .add(version.getMaxModifiedAt())
+                .add(version.getLikeCount())
+                .build();
+    }
+
+    /* Read : 댓글 페이지 조회 (오래된 순, 응답의 nextCursor로 다음 페이지 조회) */
+    public CursorPageResponseDto<CommentResponseDto> getCommentPage(Long recipeId, Integer size, String cursor) {
+        int pageSize = size == null || size < 1 ? defaultPageSize : Math.min(size, maxPageSize);
+        String cursorSort = "COMMENT:" + recipeId;  // 다른 레시피의 커서는 거부
+        // 변조되었거나 다른 레시피의 커서는 조회 전에 IllegalArgumentException (컨트롤러에서 400으로 응답)
+        FeedCursor after = cursor == null ? null : FeedCursor.decode(cursor, cursorSort);
+        LocalDateTime afterCreatedAt = after == null ? null : after.dateValue();
+
+        // 다음 페이지 여부 확인용으로 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Comment> commentList = after == null
+                ? commentRepository.findPageByRecipeId(recipeId, limit)
+                : commentRepository.findPageByRecipeIdAfter(recipeId, afterCreatedAt, after.getId(), limit);
+
+        boolean hasNext = commentList.size() > pageSize;
+        List<Comment> page = hasNext ? commentList.subList(0, pageSize) : commentList;
+
+        for (Comment comment : page) {
+            authorResolver.load(comment.getUser().getId());
+        }
+        List<CommentResponseDto> content = new ArrayList<>(page.size());
+        for (Comment comment : page) {
+            content.add(CommentResponseDto.toDto(comment,
+                    authorResolver.getUserId(comment.getUser().getId()), likeCounter.getCommentLikes(comment)));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = page.get(page.size() - 1);
+            nextCursor = new FeedCursor(cursorSort, last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPageResponseDto<>(content, nextCursor);
+    }
+
     /* Update : 댓글 수정 */
     @Transactional
     public ResponseEntity updateComment(Long recipeId, Long commentId, CommentRequestDto requestDto, User user) {
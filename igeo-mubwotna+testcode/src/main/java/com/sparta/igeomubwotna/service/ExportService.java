@@ -0,0 +1,285 @@
+package com.sparta.igeomubwotna.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.igeomubwotna.dto.Response;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+// 레시피 / 댓글 테이블 전체를 NDJSON(한 줄에 행 하나)으로 내보내기 (분석용)
+// - 정방향 전용 / 읽기 전용 커서로 fetch-size개씩 받아오면서 행마다 바로 응답에 씀 (전체 결과를 메모리에 올리지 않음)
+//   MySQL은 useCursorFetch=true일 때 fetch size만큼씩 서버 커서에서 가져옴
+//   useCursorFetch는 모든 PreparedStatement를 서버 측 prepared statement로 바꾸므로 공용 풀이 아니라
+//   내보내기 전용 커넥션 풀(최대 max-concurrent개)에만 설정
+// - 내보내는 동안 DB 커넥션 하나를 계속 사용하므로 동시에 max-concurrent개까지만 허용 (넘으면 429)
+//   허용 수는 본문을 다 쓰거나, 본문을 쓰기 전에 비동기 요청이 시간 초과 / 오류로 끝나면 한 번만 반환
+// - 비동기 응답 시간 제한은 이 요청에만 timeout-ms로 설정 (다른 비동기 요청은 기본값)
+@Slf4j(topic = "ExportService")
+@Service
+public class ExportService {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int GZIP_BUFFER = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private final long timeoutMillis;
+    private final Semaphore permits;
+    // 직접 만든 내보내기 전용 풀 (종료 시 닫음)
+    private HikariDataSource exportDataSource;
+
+    @Autowired
+    public ExportService(DataSourceProperties dataSourceProperties,
+                         ObjectMapper objectMapper,
+                         @Value("${export.fetch-size}") int fetchSize,
+                         @Value("${export.max-concurrent}") int maxConcurrent,
+                         @Value("${export.timeout-ms}") long timeoutMillis) {
+        this(exportDataSource(dataSourceProperties, maxConcurrent), objectMapper, fetchSize, maxConcurrent, timeoutMillis);
+    }
+
+    private ExportService(HikariDataSource exportDataSource, ObjectMapper objectMapper,
+                          int fetchSize, int maxConcurrent, long timeoutMillis) {
+        this(new JdbcTemplate(exportDataSource), objectMapper, fetchSize, maxConcurrent, timeoutMillis);
+        this.exportDataSource = exportDataSource;
+    }
+
+    public ExportService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                         int fetchSize, int maxConcurrent, long timeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.timeoutMillis = timeoutMillis;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    // 공용 DataSource와 같은 접속 정보에 useCursorFetch만 더한 읽기 전용 풀 (처음 내보낼 때 커넥션을 만듦)
+    private static HikariDataSource exportDataSource(DataSourceProperties dataSourceProperties, int maxConcurrent) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("export");
+        dataSource.setMaximumPoolSize(maxConcurrent);
+        dataSource.setMinimumIdle(0);
+        dataSource.setReadOnly(true);
+        dataSource.addDataSourceProperty("useCursorFetch", "true");
+        return dataSource;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (exportDataSource != null) {
+            exportDataSource.close();
+        }
+    }
+
+    public ResponseEntity export(String table, boolean gzip, HttpServletRequest request) {
+        Target target;
+        try {
+            target = Target.from(table);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new Response(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+        }
+        if (!permits.tryAcquire()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(new Response(HttpStatus.TOO_MANY_REQUESTS.value(), "다른 내보내기가 진행 중입니다. 잠시 후 다시 시도해주세요."));
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(ExportService.class.getName(),
+                new CallableProcessingInterceptor() {
+                    // 비동기 처리를 시작하기 직전에 이 요청의 시간 제한만 바꿈
+                    @Override
+                    public <T> void beforeConcurrentHandling(NativeWebRequest webRequest, Callable<T> task) {
+                        if (webRequest instanceof AsyncWebRequest asyncWebRequest) {
+                            asyncWebRequest.setTimeout(timeoutMillis);
+                        }
+                    }
+
+                    // StreamingResponseBody가 실행되지 않고 끝나는 경우(시간 초과, 실행 거부 등)에도 반환
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                        release.run();
+                    }
+                });
+
+        StreamingResponseBody body = out -> {
+            try {
+                if (gzip) {
+                    GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER);
+                    write(target, gzipOut);
+                    gzipOut.finish();
+                } else {
+                    write(target, out);
+                }
+            } finally {
+                release.run();
+            }
+        };
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(NDJSON);
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename(target.table + ".ndjson").build());
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return ResponseEntity.status(HttpStatus.OK).headers(headers).body(body);
+    }
+
+    // 테이블 전체를 out에 NDJSON으로 쓰고 내보낸 행 수를 반환
+    public long write(Target target, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        long[] rows = {0};
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // out은 호출한 쪽에서 닫음 (gzip이면 finish가 필요)
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            RowWriter rowWriter = new RowWriter(generator, target.fields);
+
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(target.sql,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, rs -> {
+                rowWriter.write(rs);
+                rows[0]++;
+            });
+            generator.flush();
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊으면 쓰기에서 실패 (커서와 커넥션은 JdbcTemplate이 정리)
+            log.warn("{} 내보내기 중단: {}행 이후 {}", target.table, rows[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+        log.info("{} 내보내기 완료: {}행, {}ms", target.table, rows[0], (System.nanoTime() - start) / 1_000_000);
+        return rows[0];
+    }
+
+    // 컬럼 타입은 첫 행에서 한 번만 읽고, 행마다 값만 씀
+    private static class RowWriter {
+        private final JsonGenerator generator;
+        private final String[] names;
+        private int[] types;
+
+        RowWriter(JsonGenerator generator, List<String> names) {
+            this.generator = generator;
+            this.names = names.toArray(String[]::new);
+        }
+
+        void write(ResultSet rs) throws SQLException {
+            if (types == null) {
+                ResultSetMetaData metaData = rs.getMetaData();
+                types = new int[names.length];
+                for (int i = 0; i < names.length; i++) {
+                    types[i] = metaData.getColumnType(i + 1);
+                }
+            }
+            try {
+                generator.writeStartObject();
+                for (int i = 0; i < names.length; i++) {
+                    generator.writeFieldName(names[i]);
+                    writeValue(rs, i + 1, types[i]);
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void writeValue(ResultSet rs, int column, int type) throws SQLException, IOException {
+            switch (type) {
+                case Types.BIGINT, Types.INTEGER, Types.SMALLINT, Types.TINYINT -> {
+                    long value = rs.getLong(column);
+                    if (rs.wasNull()) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeNumber(value);
+                    }
+                }
+                case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> {
+                    Timestamp value = rs.getTimestamp(column);
+                    if (value == null) {
+                        generator.writeNull();
+                    } else {
+                        // API 응답의 LocalDateTime과 같은 형식
+                        generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value.toLocalDateTime()));
+                    }
+                }
+                default -> {
+                    String value = rs.getString(column);
+                    if (value == null) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeString(value);
+                    }
+                }
+            }
+        }
+    }
+
+    // 내보낼 수 있는 테이블 (JSON 필드명은 API 응답과 같은 camelCase, 회원 정보 컬럼은 내보내지 않음)
+    public enum Target {
+        RECIPES("recipe",
+                List.of("id", "user_id", "title", "content", "recipe_likes", "created_at", "modified_at"),
+                List.of("id", "userPk", "title", "content", "recipeLikes", "createdAt", "modifiedAt")),
+        COMMENTS("comment",
+                List.of("id", "recipe_id", "user_id", "content", "like_count", "created_at", "modified_at"),
+                List.of("id", "recipeId", "userPk", "content", "likeCount", "createdAt", "modifiedAt"));
+
+        private final String table;
+        private final String sql;
+        private final List<String> fields;  // columns와 같은 순서
+
+        Target(String table, List<String> columns, List<String> fields) {
+            this.table = table;
+            this.sql = "SELECT " + String.join(", ", columns) + " FROM " + table;
+            this.fields = fields;
+        }
+
+        public static Target from(String name) {
+            for (Target target : values()) {
+                if (target.name().equalsIgnoreCase(name)) {
+                    return target;
+                }
+            }
+            throw new IllegalArgumentException("내보낼 수 없는 테이블입니다: " + name);
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.sparta.igeomubwotna.service;
 
+import com.sparta.igeomubwotna.counter.LikeCounter;
 import com.sparta.igeomubwotna.entity.*;
+import com.sparta.igeomubwotna.event.RecipeLikeChangedEvent;
 import com.sparta.igeomubwotna.repository.CommentLikesRepository;
 import com.sparta.igeomubwotna.repository.RecipeLikesRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,31 +19,28 @@ public class LikeService {
 
     private final RecipeLikesRepository recipeLikesRepository;
     private final CommentLikesRepository commentLikesRepository;
-    private final UserService userService;
-    private final RecipeService recipeService;
-    private final CommentService commentService;
+    private final LikeCounter likeCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
+    // 레시피 / 작성자는 락 없이 조회하고, 좋아요는 일반 INSERT 한 번으로 추가해서 실제로 추가된 경우에만 좋아요 수를 올림
+    // 같은 요청이 동시에 들어오거나 재시도되어도 유니크 제약 때문에 한 번만 반영
     @Transactional
     public ResponseEntity addRecipeLike(Long recipeId, User user) {
 
-        User foundUser = userService.findById(user.getId());
+        Long ownerId = recipeLikesRepository.findRecipeOwnerId(recipeId).orElseThrow(() ->
+                new IllegalArgumentException("해당 레시피가 존재하지 않습니다."));
 
-        Recipe foundRecipe = recipeService.findById(recipeId);
-
-        if (foundUser.getUserId().equals(foundRecipe.getUser().getUserId())) {
+        if (ownerId.equals(user.getId())) {
             throw new IllegalArgumentException("자신이 작성한 레시피에는 좋아요를 남길 수 없습니다.");
         }
 
-        var RecipeLikes = new RecipeLikes(foundUser, foundRecipe);
-
-        if (recipeLikesRepository.findByUserAndRecipe(foundUser, foundRecipe).isPresent()) {
-            throw new IllegalArgumentException("이미 좋아요를 누른 레시피입니다.");
+        if (!recipeLikesRepository.insertIfAbsent(user.getId(), recipeId)) {
+            return ResponseEntity.status(200).body("이미 좋아요를 누른 레시피입니다.");
         }
 
-        recipeLikesRepository.save(RecipeLikes);
-
-        foundRecipe.addLike();
-
+        // 좋아요 수는 커밋 후 LikeCounter에 더하고, DB에는 주기적으로 모아서 반영
+        likeCounter.addRecipeLike(recipeId, 1L);
+        eventPublisher.publishEvent(new RecipeLikeChangedEvent(user.getId(), recipeId, true));
         return ResponseEntity.status(200).body("좋아요 성공!");
     }
 
@@ -50,15 +50,15 @@ public class LikeService {
         RecipeLikes foundlike = recipeLikesRepository.findById(recipeLikeId).orElseThrow(
                 () -> new IllegalArgumentException("해당 좋아요가 존재하지 않습니다."));
 
-        Recipe foundRecipe = recipeService.findById(foundlike.getRecipe().getId());
-
-        if (!(user.getUserId().equals(foundlike.getUser().getUserId()))) {
+        if (!(user.getId().equals(foundlike.getUser().getId()))) {
             throw new IllegalArgumentException("다른 사람의 좋아요는 삭제할 수 없습니다.");
         }
 
-        recipeLikesRepository.delete(foundlike);
-
-        foundRecipe.minusLike();
+        // 동시에 들어온 취소 요청 중 실제로 삭제한 요청만 좋아요 수를 내림
+        if (recipeLikesRepository.deleteByIdAndUserId(recipeLikeId, user.getId()) == 1) {
+            likeCounter.addRecipeLike(foundlike.getRecipe().getId(), -1L);
+            eventPublisher.publishEvent(new RecipeLikeChangedEvent(user.getId(), foundlike.getRecipe().getId(), false));
+        }
 
         return ResponseEntity.status(200).body("좋아요 취소 성공!");
     }
@@ -66,24 +66,18 @@ public class LikeService {
     @Transactional
     public ResponseEntity addCommentLike(Long commentId, User user) {
 
-        User foundUser = userService.findById(user.getId());
+        Long ownerId = commentLikesRepository.findCommentOwnerId(commentId).orElseThrow(() ->
+                new IllegalArgumentException("해당 댓글이 존재하지 않습니다."));
 
-        Comment foundComment = commentService.findById(commentId);
-
-        if (foundUser.getUserId().equals(foundComment.getUser().getUserId())) {
+        if (ownerId.equals(user.getId())) {
             throw new IllegalArgumentException("자신이 작성한 댓글에는 좋아요를 남길 수 없습니다.");
         }
 
-        if (commentLikesRepository.findByUserAndComment(foundUser, foundComment).isPresent()) {
-            throw new IllegalArgumentException("이미 좋아요를 누른 댓글입니다.");
+        if (!commentLikesRepository.insertIfAbsent(user.getId(), commentId)) {
+            return ResponseEntity.status(200).body("이미 좋아요를 누른 댓글입니다.");
         }
 
-        var CommentLikes = new CommentLikes(foundUser, foundComment);
-
-        commentLikesRepository.save(CommentLikes);
-
-        foundComment.addLike();
-
+        likeCounter.addCommentLike(commentId, 1L);
         return ResponseEntity.status(200).body("좋아요 성공!");
     }
 
@@ -93,15 +87,13 @@ public class LikeService {
         CommentLikes foundLike = commentLikesRepository.findById(commentLikeId).orElseThrow(
                 () -> new IllegalArgumentException("해당 좋아요가 존재하지 않습니다."));
 
-        Comment foundComment = commentService.findById(foundLike.getComment().getId());
-
-        if (!(user.getUserId().equals(foundLike.getUser().getUserId()))) {
+        if (!(user.getId().equals(foundLike.getUser().getId()))) {
             throw new IllegalArgumentException("다른 사람의 좋아요는 삭제할 수 없습니다.");
         }
 
-        commentLikesRepository.delete(foundLike);
-
-        foundComment.minusLike();
+        if (commentLikesRepository.deleteByIdAndUserId(commentLikeId, user.getId()) == 1) {
+            likeCounter.addCommentLike(foundLike.getComment().getId(), -1L);
+        }
 
         return ResponseEntity.status(200).body("좋아요 취소 성공!");
     }
@@ -0,0 +1,226 @@
+package com.sparta.igeomubwotna.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.igeomubwotna.dto.RecipeImportResultDto;
+import com.sparta.igeomubwotna.dto.RecipeImportResultDto.LineResult;
+import com.sparta.igeomubwotna.dto.RecipeRequestDto;
+import com.sparta.igeomubwotna.entity.Recipe;
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.event.RecipesImportedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// NDJSON(한 줄에 레시피 JSON 하나) 대량 등록
+// - 요청 본문을 한 줄씩 읽어서 검증하고, chunk-size개가 모이면 한 트랜잭션으로 저장 (본문 전체를 메모리에 올리지 않음)
+// - 한 줄은 max-line-chars자까지만 읽고, 넘는 줄은 나머지를 버리고 실패 처리 (줄바꿈 없는 본문으로 메모리를 채우지 않도록)
+// - 저장은 persist 후 flush로 INSERT를 hibernate.jdbc.batch_size개씩 묶어서 보내고, chunk마다 영속성 컨텍스트를 비움
+// - chunk 저장이 DB 오류로 실패하면 그 chunk만 한 줄씩 다시 저장해서 실패한 줄만 골라냄 (이전 chunk는 이미 커밋됨)
+@Slf4j(topic = "RecipeImportService")
+@Service
+public class RecipeImportService {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int maxLines;
+    private final int maxLineChars;
+
+    private final Counter importedCounter;
+    private final Counter failedCounter;
+
+    public RecipeImportService(EntityManager entityManager,
+                               PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper,
+                               Validator validator,
+                               ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry,
+                               @Value("${recipe.import.chunk-size}") int chunkSize,
+                               @Value("${recipe.import.max-lines}") int maxLines,
+                               @Value("${recipe.import.max-line-chars}") int maxLineChars) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.maxLines = maxLines;
+        this.maxLineChars = maxLineChars;
+
+        this.importedCounter = meterRegistry.counter("recipe.import.lines", "result", "imported");
+        this.failedCounter = meterRegistry.counter("recipe.import.lines", "result", "failed");
+    }
+
+    public ResponseEntity importRecipes(InputStream body, User user) throws IOException {
+        long start = System.nanoTime();
+        List<LineResult> results = new ArrayList<>();
+        List<PendingLine> chunk = new ArrayList<>(chunkSize);
+
+        BoundedLineReader reader = new BoundedLineReader(
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)), maxLineChars);
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() && !reader.isTruncated()) {
+                continue;
+            }
+            if (lineNumber > maxLines) {
+                results.add(LineResult.failed(lineNumber, "한 번에 " + maxLines + "줄까지 등록할 수 있습니다. 이후 줄은 처리하지 않았습니다."));
+                break;
+            }
+
+            String error = reader.isTruncated()
+                    ? "한 줄은 " + maxLineChars + "자까지 입력할 수 있습니다."
+                    : parse(line, lineNumber, chunk);
+            if (error != null) {
+                results.add(LineResult.failed(lineNumber, error));
+            }
+            if (chunk.size() >= chunkSize) {
+                results.addAll(save(chunk, user));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(save(chunk, user));
+        }
+        results.sort(Comparator.comparingInt(LineResult::getLine));
+
+        RecipeImportResultDto result = new RecipeImportResultDto(results, System.nanoTime() - start);
+        importedCounter.increment(result.getImported());
+        failedCounter.increment(result.getFailed());
+        log.info("레시피 대량 등록: {}줄 중 {}개 저장, {}ms ({}개/초)", result.getTotal(), result.getImported(),
+                result.getElapsedMs(), result.getRecipesPerSecond());
+        if (result.getImported() > 0) {
+            eventPublisher.publishEvent(new RecipesImportedEvent(result.getImported()));
+        }
+
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+
+    // 한 줄을 RecipeRequestDto로 읽고 @Valid와 같은 규칙으로 검증 (통과하면 chunk에 추가, 실패하면 사유 반환)
+    private String parse(String line, int lineNumber, List<PendingLine> chunk) {
+        RecipeRequestDto requestDto;
+        try {
+            requestDto = objectMapper.readValue(line, RecipeRequestDto.class);
+        } catch (JsonProcessingException e) {
+            return "JSON 형식이 올바르지 않습니다.";
+        }
+        if (requestDto == null) {
+            return "JSON 형식이 올바르지 않습니다.";
+        }
+
+        List<String> violations = validator.validate(requestDto).stream()
+                .map(violation -> violation.getPropertyPath() + " 필드 : " + violation.getMessage())
+                .sorted()
+                .toList();
+        if (!violations.isEmpty()) {
+            return String.join(", ", violations);
+        }
+        chunk.add(new PendingLine(lineNumber, requestDto));
+        return null;
+    }
+
+    private List<LineResult> save(List<PendingLine> chunk, User user) {
+        try {
+            List<Long> recipeIds = transactionTemplate.execute(status -> persist(chunk, user));
+            List<LineResult> results = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(LineResult.imported(chunk.get(i).lineNumber(), recipeIds.get(i)));
+            }
+            return results;
+        } catch (PersistenceException | DataAccessException e) {
+            if (chunk.size() == 1) {
+                log.warn("레시피 대량 등록 {}번째 줄 저장 실패: {}", chunk.get(0).lineNumber(), e.getMessage());
+                return List.of(LineResult.failed(chunk.get(0).lineNumber(), "저장할 수 없는 레시피입니다."));
+            }
+            log.warn("레시피 대량 등록 {}~{}번째 줄 저장 실패, 한 줄씩 다시 저장: {}", chunk.get(0).lineNumber(),
+                    chunk.get(chunk.size() - 1).lineNumber(), e.getMessage());
+            List<LineResult> results = new ArrayList<>(chunk.size());
+            for (PendingLine pending : chunk) {
+                results.addAll(save(List.of(pending), user));
+            }
+            return results;
+        }
+    }
+
+    private List<Long> persist(List<PendingLine> chunk, User user) {
+        // 이전 chunk에서 영속성 컨텍스트를 비웠으므로 트랜잭션마다 작성자 참조를 다시 얻음 (SELECT 없음)
+        User author = entityManager.getReference(User.class, user.getId());
+        List<Recipe> recipes = new ArrayList<>(chunk.size());
+        for (PendingLine pending : chunk) {
+            Recipe recipe = new Recipe(pending.requestDto(), author);
+            entityManager.persist(recipe);
+            recipes.add(recipe);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return recipes.stream().map(Recipe::getId).toList();
+    }
+
+    private record PendingLine(int lineNumber, RecipeRequestDto requestDto) {
+    }
+
+    // BufferedReader.readLine과 같지만 한 줄을 maxChars자까지만 보관 (넘는 부분은 읽어서 버리고 isTruncated로 표시)
+    private static final class BoundedLineReader {
+        private final BufferedReader reader;
+        private final int maxChars;
+        private final StringBuilder line = new StringBuilder();
+        private boolean truncated;
+
+        BoundedLineReader(BufferedReader reader, int maxChars) {
+            this.reader = reader;
+            this.maxChars = maxChars;
+        }
+
+        String readLine() throws IOException {
+            line.setLength(0);
+            truncated = false;
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            while (c != -1 && c != '\n') {
+                if (line.length() < maxChars) {
+                    line.append((char) c);
+                } else {
+                    truncated = true;
+                }
+                c = reader.read();
+            }
+            // \r\n 줄바꿈
+            if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+                line.setLength(line.length() - 1);
+            }
+            return line.toString();
+        }
+
+        boolean isTruncated() {
+            return truncated;
+        }
+    }
+}
@@ -1,17 +1,34 @@
 package com.sparta.igeomubwotna.service;
 
 
+import com.sparta.igeomubwotna.cache.HotRecipeCache;
+import com.sparta.igeomubwotna.cache.LikedRecipeIndex;
+import com.sparta.igeomubwotna.cache.LongIdSet;
+import com.sparta.igeomubwotna.cache.RecipeResponseBytesCache;
+import com.sparta.igeomubwotna.cache.TrendingRecipeBoard;
+import com.sparta.igeomubwotna.counter.LikeCounter;
+import com.sparta.igeomubwotna.dto.CursorPageResponseDto;
+import com.sparta.igeomubwotna.dto.FeedCursor;
 import com.sparta.igeomubwotna.dto.RecipeRequestDto;
 import com.sparta.igeomubwotna.dto.RecipeResponseDto;
+import com.sparta.igeomubwotna.dto.RecipeSummaryDto;
+import com.sparta.igeomubwotna.dto.Response;
 import com.sparta.igeomubwotna.entity.Recipe;
+import com.sparta.igeomubwotna.entity.RecipeSortEnum;
 import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.event.RecipeChangedEvent;
 import com.sparta.igeomubwotna.repository.RecipeRepository;
+import com.sparta.igeomubwotna.search.RecipeSearchIndex;
+import com.sparta.igeomubwotna.search.TitleAutocomplete;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,24 +36,87 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class RecipeService {
 
+    private static final int FEED_SIZE = 10;
+
     private final RecipeRepository recipeRepository;
+    private final AuthorResolver authorResolver;
+    private final HotRecipeCache hotRecipeCache;
+    private final RecipeResponseBytesCache recipeResponseBytesCache;
+    private final LikeCounter likeCounter;
+    private final LikedRecipeIndex likedRecipeIndex;
+    private final RecipeSearchIndex recipeSearchIndex;
+    private final TitleAutocomplete titleAutocomplete;
+    private final TrendingRecipeBoard trendingRecipeBoard;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ResponseEntity saveRecipe(RecipeRequestDto requestDto, User user) {
         Recipe recipe = recipeRepository.save(new Recipe(requestDto, user));
+        eventPublisher.publishEvent(new RecipeChangedEvent(recipe.getId(), RecipeChangedEvent.Type.CREATED));
 
         return ResponseEntity.status(HttpStatus.CREATED).body(new RecipeResponseDto(recipe));
     }
 
+    // 자주 조회되는 레시피는 캐시된 응답을 그대로 반환 (캐시에 없을 때만 recipe / users 조회)
+    // 캐시에는 recipe_likes 값이 들어 있으므로 슬롯 합계와 아직 반영되지 않은 증감분을 더해서 반환
     public ResponseEntity getRecipe(Long recipeId) {
-        Recipe recipe = findById(recipeId);
+        return ResponseEntity.status(HttpStatus.OK).body(loadRecipe(recipeId));
+    }
+
+    // eTag(getRecipeETag) 버전으로 직렬화해 둔 바이트가 있으면 그대로 반환 (DTO 생성 / JSON 직렬화 없음)
+    // 없으면 응답을 만들어서 직렬화한 뒤 저장 (키는 실제로 직렬화한 응답의 버전)
+    public ResponseEntity getRecipe(Long recipeId, String eTag, boolean acceptsGzip) {
+        if (!recipeResponseBytesCache.isEnabled()) {
+            return getRecipe(recipeId);
+        }
+        RecipeResponseBytesCache.Entry serialized = eTag == null ? null : recipeResponseBytesCache.get(recipeId, eTag);
+        if (serialized == null) {
+            RecipeResponseDto responseDto = loadRecipe(recipeId);
+            String version = recipeETag(recipeId, responseDto.getModifiedAt(), responseDto.getRecipeLikes());
+            // 이 서버의 캐시가 다른 서버에서 수정되기 전의 응답이면 DB에서 다시 읽음
+            if (eTag != null && !eTag.equals(version)) {
+                hotRecipeCache.invalidate(recipeId);
+                responseDto = loadRecipe(recipeId);
+                version = recipeETag(recipeId, responseDto.getModifiedAt(), responseDto.getRecipeLikes());
+            }
+            serialized = recipeResponseBytesCache.put(recipeId, version, responseDto);
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip && serialized.gzip() != null) {
+            return response.eTag(RecipeResponseBytesCache.gzipETag(serialized.eTag()))
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip").body(serialized.gzip());
+        }
+        return response.eTag(serialized.eTag()).body(serialized.json());
+    }
+
+    private RecipeResponseDto loadRecipe(Long recipeId) {
+        RecipeResponseDto cached = hotRecipeCache.get(recipeId, id -> new RecipeResponseDto(findById(id)));
+        long recipeLikes = likeCounter.getRecipeLikes(recipeId, cached.getRecipeLikes());
+        return cached.getRecipeLikes() != null && cached.getRecipeLikes() == recipeLikes
+                ? cached : cached.withRecipeLikes(recipeLikes);
+    }
 
-        return ResponseEntity.status(HttpStatus.OK).body(new RecipeResponseDto(recipe));
+    // 단건 조회 응답의 ETag (수정 시각 + 좋아요 수, 없는 레시피면 null)
+    // 이 서버의 캐시는 다른 서버의 수정을 모를 수 있으므로 항상 content 없이 필요한 컬럼만 DB에서 조회해서 계산
+    public String getRecipeETag(Long recipeId) {
+        return recipeRepository.findSummaryById(recipeId)
+                .map(summary -> recipeETag(recipeId, summary.getModifiedAt(),
+                        likeCounter.getRecipeLikes(recipeId, summary.getRecipeLikes())))
+                .orElse(null);
     }
 
     @Transactional
@@ -44,8 +124,10 @@ public class RecipeService {
         Recipe recipe = findById(recipeId);
         checkUserSame(recipe, user);
         recipe.update(requestDto);
+        eventPublisher.publishEvent(new RecipeChangedEvent(recipeId, RecipeChangedEvent.Type.UPDATED));
 
-        return ResponseEntity.status(HttpStatus.OK).body(new RecipeResponseDto(recipe));
+        return ResponseEntity.status(HttpStatus.OK).body(
+                new RecipeResponseDto(recipe, recipe.getUser().getUserId(), likeCounter.getRecipeLikes(recipe)));
 
     }
 
@@ -54,37 +136,199 @@ public class RecipeService {
         Recipe recipe = findById(recipeId);
         checkUserSame(recipe, user);
         recipeRepository.delete(recipe);
+        eventPublisher.publishEvent(new RecipeChangedEvent(recipeId, RecipeChangedEvent.Type.DELETED));
 
         return ResponseEntity.status(HttpStatus.OK).body((recipeId + " 번 삭제 완료"));
     }
 
-    public ResponseEntity getAllRecipe(int page, String sortBy) {
-        Sort sort = Sort.by(Sort.Direction.DESC, sortBy);
+    public ResponseEntity getAllRecipe(int page, String sortBy, User user) {
+        // 인덱스가 있는 정렬 기준만 허용하고, 동률은 id로 정렬해 (정렬 컬럼, id) 인덱스를 그대로 타도록 함
+        RecipeSortEnum recipeSort;
+        try {
+            recipeSort = RecipeSortEnum.from(sortBy);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e.getMessage());
+        }
+        Sort sort = Sort.by(Sort.Direction.DESC, recipeSort.getProperty(), "id");
         Pageable pageable = PageRequest.of(page, 10, sort);
-        Page<Recipe> recipeList = recipeRepository.findAll(pageable);
+        Page<RecipeSummaryDto> recipeList = recipeRepository.findSummaries(pageable);
 
         if (recipeList.getTotalElements() == 0) {
             return ResponseEntity.status(HttpStatus.OK).body("먼저 작성하여 소식을 알려보세요!");
         }
 
-        return ResponseEntity.status(HttpStatus.OK).body(recipeList.map(RecipeResponseDto::new));
+        return ResponseEntity.status(HttpStatus.OK).body(toResponseDtoPage(recipeList, user));
     }
 
-    public ResponseEntity getDateRecipe(int page, String startDate, String endDate) {
+    public ResponseEntity getDateRecipe(int page, String startDate, String endDate, User user) {
 
         LocalDateTime startDateTime = LocalDate.parse(startDate, DateTimeFormatter.ofPattern("yyyyMMdd")).atTime(0, 0, 0);
         LocalDateTime endDateTime = LocalDate.parse(endDate, DateTimeFormatter.ofPattern("yyyyMMdd")).atTime(23, 59, 59);
 
-        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
+        // 같은 createdAt끼리 페이지 경계에서 순서가 바뀌지 않도록 id로 한 번 더 정렬 (idx_recipe_created_at_id 사용)
+        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt", "id");
         Pageable pageable = PageRequest.of(page, 10, sort);
 
-        Page<Recipe> recipeList = recipeRepository.findAllByCreatedAtBetween(pageable, startDateTime, endDateTime);
+        Page<RecipeSummaryDto> recipeList = recipeRepository.findSummariesByCreatedAtBetween(pageable, startDateTime, endDateTime);
 
         if (recipeList.getTotalElements() == 0) {
             return ResponseEntity.status(HttpStatus.OK).body("먼저 작성하여 소식을 알려보세요!");
         }
 
-        return ResponseEntity.status(HttpStatus.OK).body(recipeList.map(RecipeResponseDto::new));
+        return ResponseEntity.status(HttpStatus.OK).body(toResponseDtoPage(recipeList, user));
+    }
+
+    // 커서 기반 전체 목록 조회 (깊이 내려가도 OFFSET 스캔, COUNT 쿼리 없이 일정한 비용)
+    // 커서의 정렬 값까지 조회 전에 꺼내서, 변조되었거나 다른 정렬 기준의 커서는 400으로 응답
+    public ResponseEntity getRecipeFeed(String sortBy, String cursor, User user) {
+        RecipeSortEnum sort;
+        FeedCursor after;
+        LocalDateTime afterDate = null;
+        long afterLikes = 0;
+        try {
+            sort = RecipeSortEnum.from(sortBy);
+            after = cursor == null ? null : FeedCursor.decode(cursor, sort.name());
+            if (after != null && sort == RecipeSortEnum.MOST_LIKED) {
+                afterLikes = after.longValue();
+            } else if (after != null) {
+                afterDate = after.dateValue();
+            }
+        } catch (IllegalArgumentException e) {
+            return badRequest(e.getMessage());
+        }
+        Pageable limit = PageRequest.of(0, FEED_SIZE + 1);  // 다음 페이지 여부 확인용으로 한 건 더 조회
+
+        List<RecipeSummaryDto> recipeList = switch (sort) {
+            case NEWEST -> after == null
+                    ? recipeRepository.findFeedOrderByCreatedAt(limit)
+                    : recipeRepository.findFeedOrderByCreatedAtAfter(afterDate, after.getId(), limit);
+            case MOST_LIKED -> after == null
+                    ? recipeRepository.findFeedOrderByRecipeLikes(limit)
+                    : recipeRepository.findFeedOrderByRecipeLikesAfter(afterLikes, after.getId(), limit);
+            case RECENTLY_MODIFIED -> after == null
+                    ? recipeRepository.findFeedOrderByModifiedAt(limit)
+                    : recipeRepository.findFeedOrderByModifiedAtAfter(afterDate, after.getId(), limit);
+        };
+
+        return toFeedResponse(recipeList, sort, after == null, user);
+    }
+
+    // 커서 기반 기간별 목록 조회 (최신순)
+    public ResponseEntity getDateRecipeFeed(String startDate, String endDate, String cursor, User user) {
+        LocalDateTime startDateTime;
+        LocalDateTime endDateTime;
+        FeedCursor after;
+        LocalDateTime afterDate;
+        try {
+            startDateTime = LocalDate.parse(startDate, DateTimeFormatter.ofPattern("yyyyMMdd")).atTime(0, 0, 0);
+            endDateTime = LocalDate.parse(endDate, DateTimeFormatter.ofPattern("yyyyMMdd")).atTime(23, 59, 59);
+        } catch (DateTimeParseException e) {
+            return badRequest("날짜는 yyyyMMdd 형식으로 입력해주세요.");
+        }
+        try {
+            after = cursor == null ? null : FeedCursor.decode(cursor, RecipeSortEnum.NEWEST.name());
+            afterDate = after == null ? null : after.dateValue();
+        } catch (IllegalArgumentException e) {
+            return badRequest(e.getMessage());
+        }
+        Pageable limit = PageRequest.of(0, FEED_SIZE + 1);
+
+        List<RecipeSummaryDto> recipeList = after == null
+                ? recipeRepository.findDateFeed(startDateTime, endDateTime, limit)
+                : recipeRepository.findDateFeedAfter(startDateTime, endDateTime, afterDate, after.getId(), limit);
+
+        return toFeedResponse(recipeList, RecipeSortEnum.NEWEST, after == null, user);
+    }
+
+    // 제목 + 본문 검색 (메모리 역색인에서 점수 순 id를 찾고, 해당 페이지의 레시피만 id로 조회)
+    public ResponseEntity searchRecipe(String query, int page, User user) {
+        if (query == null || query.isBlank()) {
+            return badRequest("검색어를 입력해주세요.");
+        }
+        List<Long> recipeIds = recipeSearchIndex.search(query);
+        int from = Math.max(page, 0) * FEED_SIZE;
+        if (from >= recipeIds.size()) {
+            return ResponseEntity.status(HttpStatus.OK).body(List.of());
+        }
+        List<Long> pageIds = recipeIds.subList(from, Math.min(from + FEED_SIZE, recipeIds.size()));
+
+        // 색인 이후 다른 서버에서 삭제된 레시피는 조회되지 않으므로 제외
+        Map<Long, RecipeSummaryDto> recipes = recipeRepository.findSummariesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(RecipeSummaryDto::getId, Function.identity()));
+        List<RecipeSummaryDto> recipeList = pageIds.stream()
+                .map(recipes::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return ResponseEntity.status(HttpStatus.OK).body(toResponseDtoList(recipeList, user));
+    }
+
+    // 제목 자동완성 (메모리 사전에서 좋아요 많은 순, SQL 없음)
+    public ResponseEntity autocompleteTitle(String prefix) {
+        return ResponseEntity.status(HttpStatus.OK).body(titleAutocomplete.suggest(prefix));
+    }
+
+    // 인기 급상승 레시피 (최근 좋아요일수록 크게 반영, 주기적으로 만들어 둔 순위를 그대로 반환)
+    public ResponseEntity getTrendingRecipes() {
+        return ResponseEntity.status(HttpStatus.OK).body(trendingRecipeBoard.top());
+    }
+
+    private ResponseEntity toFeedResponse(List<RecipeSummaryDto> recipeList, RecipeSortEnum sort, boolean firstPage, User user) {
+        if (firstPage && recipeList.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.OK).body("먼저 작성하여 소식을 알려보세요!");
+        }
+
+        boolean hasNext = recipeList.size() > FEED_SIZE;
+        List<RecipeSummaryDto> page = hasNext ? recipeList.subList(0, FEED_SIZE) : recipeList;
+
+        String nextCursor = null;
+        if (hasNext) {
+            RecipeSummaryDto last = page.get(page.size() - 1);
+            nextCursor = new FeedCursor(sort.name(), sortValue(last, sort), last.getId()).encode();
+        }
+
+        List<RecipeResponseDto> content = toResponseDtoList(page, user);
+        return ResponseEntity.status(HttpStatus.OK).body(new CursorPageResponseDto<>(content, nextCursor));
+    }
+
+    // 목록은 content 없이 RecipeSummaryDto로 조회 (본문은 단건 조회에서만 읽음)
+    // 목록의 작성자 userId는 AuthorResolver로 한 번에 조회 (목록 크기와 관계없이 users 조회 1회)
+    // likedByMe는 LikedRecipeIndex의 메모리 집합으로 표시 (추가 SQL 없음)
+    private Page<RecipeResponseDto> toResponseDtoPage(Page<RecipeSummaryDto> recipeList, User user) {
+        recipeList.forEach(recipe -> authorResolver.load(recipe.getUserPk()));
+        LongIdSet likedIds = likedRecipeIndex.get(user.getId());
+        return recipeList.map(recipe -> toResponseDto(recipe, likedIds));
+    }
+
+    private List<RecipeResponseDto> toResponseDtoList(List<RecipeSummaryDto> recipeList, User user) {
+        recipeList.forEach(recipe -> authorResolver.load(recipe.getUserPk()));
+        LongIdSet likedIds = likedRecipeIndex.get(user.getId());
+        return recipeList.stream()
+                .map(recipe -> toResponseDto(recipe, likedIds))
+                .toList();
+    }
+
+    private RecipeResponseDto toResponseDto(RecipeSummaryDto recipe, LongIdSet likedIds) {
+        RecipeResponseDto responseDto = new RecipeResponseDto(recipe, authorResolver.getUserId(recipe.getUserPk()),
+                likeCounter.getRecipeLikes(recipe.getId(), recipe.getRecipeLikes()));
+        responseDto.setLikedByMe(likedIds.contains(recipe.getId()));
+        return responseDto;
+    }
+
+    private String recipeETag(Long recipeId, LocalDateTime modifiedAt, long recipeLikes) {
+        return new VersionTag().add(recipeId).add(modifiedAt).add(recipeLikes).build();
+    }
+
+    private ResponseEntity badRequest(String message) {
+        return ResponseEntity.badRequest().body(new Response(HttpStatus.BAD_REQUEST.value(), message));
+    }
+
+    private Object sortValue(RecipeSummaryDto recipe, RecipeSortEnum sort) {
+        return switch (sort) {
+            case NEWEST -> recipe.getCreatedAt();
+            case MOST_LIKED -> recipe.getRecipeLikes();
+            case RECENTLY_MODIFIED -> recipe.getModifiedAt();
+        };
     }
 
     private void checkUserSame(Recipe recipe, User user) {
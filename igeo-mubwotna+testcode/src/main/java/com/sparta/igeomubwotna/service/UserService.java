@@ -2,9 +2,13 @@ package com.sparta.igeomubwotna.service;
 
 import com.sparta.igeomubwotna.dto.*;
 import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.event.UserChangedEvent;
+import com.sparta.igeomubwotna.jwt.RefreshTokenStore;
 import com.sparta.igeomubwotna.repository.UserRepository;
+import com.sparta.igeomubwotna.security.RevokedUserRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -25,6 +29,9 @@ import java.util.Optional;
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RevokedUserRegistry revokedUserRegistry;
+    private final RefreshTokenStore refreshTokenStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ResponseEntity<Response> signup(SignupRequestDto requestDto, BindingResult bindingResult) {
@@ -121,22 +128,25 @@ public class UserService {
             user.updatePassword(passwordEncoder.encode(requestDto.getNewPassword()));
         }
         userRepository.save(user);  // 사용자 정보 저장
+        // 커밋되면 인증용 사용자 캐시에서 제거
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUserId()));
 
         Response response = new Response(HttpStatus.OK.value(), "프로필 정보를 성공적으로 수정하였습니다.");
         return ResponseEntity.ok().body(response);
     }
 
     @Transactional
-    public ResponseEntity<Response> logout(Long userId) {
+    public ResponseEntity<Response> logout(Long userId, String deviceId) {
         // ID로 사용자를 검색하고, 없으면 예외를 던짐
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "해당 사용자를 찾을 수 없습니다."));
 
-        // refreshToken 초기화
-        user.updateRefreshToken(null);
+        // 해당 기기의 refreshToken 삭제
+        refreshTokenStore.revoke(user.getUserId(), deviceId);
+        // 이미 발급된 AccessToken은 Claim만으로 인가하지 않도록 기록
+        revokedUserRegistry.revoke(user.getId());
 
-        // 사용자 정보 저장
-        userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUserId()));
 
         // SecurityContextHolder 초기화
         SecurityContextHolder.clearContext();
@@ -160,6 +170,10 @@ public class UserService {
         // 회원 탈퇴 처리
         user.withdraw();
         userRepository.save(user);
+        // 모든 기기 로그아웃
+        refreshTokenStore.revokeAll(user.getUserId());
+        revokedUserRegistry.revoke(user.getId());
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUserId()));
 
         Response response = new Response(HttpStatus.OK.value(), "회원 탈퇴가 성공적으로 완료되었습니다.");
         return ResponseEntity.ok().body(response);
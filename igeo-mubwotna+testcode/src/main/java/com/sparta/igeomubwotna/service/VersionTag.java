@@ -0,0 +1,51 @@
+package com.sparta.igeomubwotna.service;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+
+// 응답 본문을 결정하는 값(id, 수정 시각, 좋아요 수 등)으로 만드는 강한 ETag
+// 넣은 값이 모두 같으면 응답 본문도 같아야 하므로, 본문에 영향을 주는 값은 빠짐없이 add 할 것
+public class VersionTag {
+
+    // SHA-256 앞 16바이트만 사용
+    private static final int TAG_BYTES = 16;
+
+    private final MessageDigest digest;
+    private final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+
+    public VersionTag() {
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public VersionTag add(long value) {
+        buffer.clear();
+        digest.update(buffer.putLong(value).array());
+        return this;
+    }
+
+    // null은 0이 아닌 값과 구분되도록 별도 값으로 기록
+    public VersionTag add(Long value) {
+        return value == null ? add(Long.MIN_VALUE) : add(value.longValue());
+    }
+
+    public VersionTag add(LocalDateTime value) {
+        if (value == null) {
+            return add(Long.MIN_VALUE);
+        }
+        return add(value.toEpochSecond(ZoneOffset.UTC)).add(value.getNano());
+    }
+
+    // If-None-Match와 비교할 수 있도록 따옴표로 감싼 값
+    public String build() {
+        byte[] hash = digest.digest();
+        return "\"" + HexFormat.of().formatHex(hash, 0, TAG_BYTES) + "\"";
+    }
+}
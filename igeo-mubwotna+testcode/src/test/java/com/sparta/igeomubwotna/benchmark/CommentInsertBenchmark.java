@@ -0,0 +1,139 @@
+package com.sparta.igeomubwotna.benchmark;
+
+import com.sparta.igeomubwotna.entity.IdSequence;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import org.h2.tools.Server;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 댓글 10,000개 저장 시간 / JDBC 문장 수 비교 (Hibernate + H2 TCP 서버, 로컬 소켓 왕복)
+// - 변경 전: IDENTITY -> INSERT마다 실행해서 생성된 id를 받아야 하므로 배치 불가
+// - 변경 후: id_sequence에서 100개씩 미리 받는 TABLE(pooled) -> INSERT 100개씩 배치
+// 두 엔티티 모두 comment와 같은 컬럼을 갖고, 1,000개마다 커밋 후 영속성 컨텍스트를 비움
+@Tag("benchmark")
+public class CommentInsertBenchmark {
+
+    private static final int COMMENTS = 10_000;
+    private static final int CHUNK = 1_000;
+
+    @Test
+    @DisplayName("댓글 10,000개 저장")
+    void insertComments() throws Exception {
+        Server server = Server.createTcpServer("-tcpPort", "19092", "-ifNotExists").start();
+        try (SessionFactory sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityComment.class)
+                .addAnnotatedClass(PooledComment.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:tcp://localhost:19092/mem:comment-insert;MODE=MySQL")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.jdbc.batch_size", "100")
+                .setProperty("hibernate.order_inserts", "true")
+                .setProperty("hibernate.generate_statistics", "true")
+                .buildSessionFactory()) {
+
+            // 워밍업
+            insert(sessionFactory, CHUNK, IdentityComment::new);
+            insert(sessionFactory, CHUNK, PooledComment::new);
+
+            run("IDENTITY", sessionFactory, IdentityComment::new);
+            run("TABLE(pooled, 100)", sessionFactory, PooledComment::new);
+        } finally {
+            server.stop();
+        }
+    }
+
+    private void run(String name, SessionFactory sessionFactory, Function<Long, Object> factory) {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+        insert(sessionFactory, COMMENTS, factory);
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals(COMMENTS, statistics.getEntityInsertCount());
+        System.out.printf("[댓글 저장] %s: %,d개 %,dms (%,.0f개/초), JDBC 문장 준비 %,d회%n", name, COMMENTS,
+                elapsed / 1_000_000, COMMENTS / (elapsed / 1_000_000_000.0), statistics.getPrepareStatementCount());
+    }
+
+    private void insert(SessionFactory sessionFactory, int count, Function<Long, Object> factory) {
+        try (Session session = sessionFactory.openSession()) {
+            for (int from = 0; from < count; from += CHUNK) {
+                session.beginTransaction();
+                for (long i = from; i < Math.min(from + CHUNK, count); i++) {
+                    session.persist(factory.apply(i));
+                }
+                session.getTransaction().commit();
+                session.clear();
+            }
+        }
+    }
+
+    @Entity(name = "IdentityComment")
+    @Table(name = "identity_comment")
+    public static class IdentityComment {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        private String content;
+        private Long likeCount;
+        private Long recipeId;
+        private Long userId;
+        private LocalDateTime createdAt;
+        private LocalDateTime modifiedAt;
+
+        protected IdentityComment() {
+        }
+
+        IdentityComment(Long i) {
+            this.content = "댓글 내용 " + i;
+            this.likeCount = 0L;
+            this.recipeId = i % 100 + 1;
+            this.userId = i % 1000 + 1;
+            this.createdAt = LocalDateTime.now();
+            this.modifiedAt = this.createdAt;
+        }
+    }
+
+    @Entity(name = "PooledComment")
+    @Table(name = "pooled_comment")
+    public static class PooledComment {
+        @Id
+        @GeneratedValue(strategy = GenerationType.TABLE, generator = "pooled_comment_id")
+        @TableGenerator(name = "pooled_comment_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN,
+                valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "pooled_comment",
+                allocationSize = IdSequence.ALLOCATION_SIZE)
+        private Long id;
+        private String content;
+        private Long likeCount;
+        private Long recipeId;
+        private Long userId;
+        private LocalDateTime createdAt;
+        private LocalDateTime modifiedAt;
+
+        protected PooledComment() {
+        }
+
+        PooledComment(Long i) {
+            this.content = "댓글 내용 " + i;
+            this.likeCount = 0L;
+            this.recipeId = i % 100 + 1;
+            this.userId = i % 1000 + 1;
+            this.createdAt = LocalDateTime.now();
+            this.modifiedAt = this.createdAt;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.sparta.igeomubwotna.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.igeomubwotna.service.ExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 레시피 1,000,000행 내보내기 중 힙 사용량 (H2 파일 DB, 결과를 메모리에 올리지 않는 LAZY_QUERY_EXECUTION)
+// 100,000행마다 GC 후 사용 중인 힙을 기록해서 행 수가 늘어도 힙이 늘지 않는지 확인
+@Tag("benchmark")
+public class ExportBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final int SAMPLE_EVERY = 100_000;
+
+    @Test
+    @DisplayName("레시피 1,000,000행 내보내기")
+    void exportRecipes(@TempDir Path dir) throws Exception {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:file:" + dir.resolve("export") + ";MODE=MySQL;LAZY_QUERY_EXECUTION=1", "sa", "", true);
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE TABLE recipe (id BIGINT PRIMARY KEY, user_id BIGINT, title VARCHAR(255), " +
+                    "content VARCHAR(255), recipe_likes BIGINT, created_at TIMESTAMP, modified_at TIMESTAMP)");
+            jdbcTemplate.update("INSERT INTO recipe SELECT x, MOD(x, 1000) + 1, CONCAT('레시피 제목 ', x), " +
+                    "REPEAT('재료를 손질하고 끓인다. ', 8), MOD(x, 500), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+                    "FROM SYSTEM_RANGE(1, " + ROWS + ")");
+
+            ExportService exportService = new ExportService(jdbcTemplate, new ObjectMapper(), 1000, 1, 3_600_000L);
+            HeapSamplingOutputStream out = new HeapSamplingOutputStream();
+
+            long start = System.nanoTime();
+            long rows = exportService.write(ExportService.Target.RECIPES, out);
+            long elapsed = System.nanoTime() - start;
+
+            assertEquals(ROWS, rows);
+            System.out.printf("[내보내기] %,d행 %,dMB %,dms (%,.0f행/초)%n", rows, out.bytes / (1024 * 1024),
+                    elapsed / 1_000_000, rows / (elapsed / 1_000_000_000.0));
+            System.out.printf("[내보내기] %,d행마다 사용 중인 힙(MB): %s%n", SAMPLE_EVERY, out.heapSamples);
+        } finally {
+            dataSource.destroy();
+        }
+    }
+
+    // 응답 대신 바이트 수만 세고, 줄 수가 SAMPLE_EVERY의 배수가 될 때마다 힙 사용량 기록
+    private static class HeapSamplingOutputStream extends OutputStream {
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final List<Long> heapSamples = new ArrayList<>();
+        private long bytes;
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            count(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                count(b[i]);
+            }
+        }
+
+        private void count(int b) {
+            bytes++;
+            if (b == '\n' && ++lines % SAMPLE_EVERY == 0) {
+                System.gc();
+                heapSamples.add(memory.getHeapMemoryUsage().getUsed() / (1024 * 1024));
+            }
+        }
+    }
+}
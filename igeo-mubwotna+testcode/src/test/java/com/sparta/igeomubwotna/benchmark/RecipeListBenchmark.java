@@ -0,0 +1,117 @@
+package com.sparta.igeomubwotna.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 레시피 목록 한 페이지(10개)를 읽을 때 전달되는 바이트 수와 지연 비교 (내장 DB H2, MySQL 모드)
+// - 엔티티 조회: findAll(pageable)이 만드는 것과 같은 전체 컬럼 (content 포함)
+// - 요약 조회: RecipeSummaryDto 생성자 표현식이 만드는 컬럼 (content 없음)
+// 본문은 4KB~16KB 한글 텍스트로 채움
+@Tag("benchmark")
+public class RecipeListBenchmark {
+
+    private static final int RECIPES = 20_000;
+    private static final int PAGE_SIZE = 10;
+    private static final int WARMUP = 1_000;
+    private static final int ITERATIONS = 5_000;
+
+    private static final String ENTITY_COLUMNS = "id, title, content, user_id, recipe_likes, created_at, modified_at";
+    private static final String SUMMARY_COLUMNS = "id, title, user_id, recipe_likes, created_at, modified_at";
+
+    @Test
+    @DisplayName("목록 한 페이지 바이트 수 / 지연")
+    void listPage() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(
+                new DriverManagerDataSource("jdbc:h2:mem:recipe-list;MODE=MySQL;DB_CLOSE_DELAY=-1"));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS recipe");
+        jdbcTemplate.execute("CREATE TABLE recipe (id BIGINT PRIMARY KEY, title VARCHAR(255), content TEXT, " +
+                "user_id BIGINT, recipe_likes BIGINT, created_at TIMESTAMP(6), modified_at TIMESTAMP(6))");
+        jdbcTemplate.execute("CREATE INDEX idx_recipe_created_at_id ON recipe (created_at, id)");
+
+        Random random = new Random(3);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= RECIPES; id++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusMinutes(id));
+            rows.add(new Object[]{id, "레시피 제목 " + id, body(random), id % 100 + 1, (long) random.nextInt(1000), createdAt, createdAt});
+            if (rows.size() == 1_000) {
+                insert(jdbcTemplate, rows);
+            }
+        }
+
+        Result entity = measure(jdbcTemplate, ENTITY_COLUMNS, random);
+        Result summary = measure(jdbcTemplate, SUMMARY_COLUMNS, random);
+
+        System.out.printf("[목록 페이지] 엔티티 조회: %,d바이트, 평균 %.1fus, p99 %.1fus%n",
+                entity.bytesPerPage, entity.averageMicros, entity.p99Micros);
+        System.out.printf("[목록 페이지] 요약 조회:   %,d바이트, 평균 %.1fus, p99 %.1fus%n",
+                summary.bytesPerPage, summary.averageMicros, summary.p99Micros);
+        assertTrue(summary.bytesPerPage * 10 < entity.bytesPerPage);
+    }
+
+    private Result measure(JdbcTemplate jdbcTemplate, String columns, Random random) {
+        String sql = "SELECT " + columns + " FROM recipe ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ?";
+        AtomicLong bytes = new AtomicLong();
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < WARMUP + ITERATIONS; i++) {
+            int offset = random.nextInt(100) * PAGE_SIZE;
+            long start = System.nanoTime();
+            long pageBytes = jdbcTemplate.query(sql, this::bytesOf, PAGE_SIZE, offset);
+            long elapsed = System.nanoTime() - start;
+            if (i >= WARMUP) {
+                nanos[i - WARMUP] = elapsed;
+                bytes.addAndGet(pageBytes);
+            }
+        }
+        Arrays.sort(nanos);
+        return new Result(bytes.get() / ITERATIONS,
+                Arrays.stream(nanos).average().orElse(0) / 1000.0, nanos[ITERATIONS * 99 / 100] / 1000.0);
+    }
+
+    // 문자열은 UTF-8 바이트 수, 숫자 / 시각은 8바이트로 계산
+    private long bytesOf(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        long bytes = 0;
+        while (rs.next()) {
+            for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                Object value = rs.getObject(column);
+                bytes += value instanceof String text ? text.getBytes(StandardCharsets.UTF_8).length : 8;
+            }
+        }
+        return bytes;
+    }
+
+    private void insert(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO recipe (" + ENTITY_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        rows.clear();
+    }
+
+    private String body(Random random) {
+        int length = 4_096 + random.nextInt(12_288);
+        StringBuilder body = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            body.append(i % 12 == 11 ? ' ' : (char) ('가' + random.nextInt(2_000)));
+        }
+        return body.toString();
+    }
+
+    private record Result(long bytesPerPage, double averageMicros, double p99Micros) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.sparta.igeomubwotna.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sparta.igeomubwotna.cache.RecipeResponseBytesCache;
+import com.sparta.igeomubwotna.dto.RecipeRequestDto;
+import com.sparta.igeomubwotna.dto.RecipeResponseDto;
+import com.sparta.igeomubwotna.entity.Recipe;
+import com.sparta.igeomubwotna.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// 단건 조회 한 번당 할당 바이트 / 시간 (ThreadMXBean의 스레드별 할당량으로 측정)
+// - 변경 전: 캐시된 RecipeResponseDto를 Jackson으로 직렬화해서 응답 스트림에 씀 (MappingJackson2HttpMessageConverter와 같은 경로)
+// - 변경 후: RecipeResponseBytesCache에서 같은 버전의 바이트를 찾아 그대로 씀 (JSON / gzip)
+// 본문은 한글 제목 + 약 2KB 한글 본문
+@Tag("benchmark")
+public class RecipeResponseAllocationBenchmark {
+
+    private static final int WARMUP = 200_000;
+    private static final int REQUESTS = 1_000_000;
+    private static final String ETAG = "\"0123456789abcdef0123456789abcdef\"";
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("단건 조회 응답 직렬화 vs 직렬화 바이트 캐시")
+    void allocationPerRequest() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        RecipeResponseDto responseDto = responseDto(objectMapper);
+
+        RecipeResponseBytesCache cache = new RecipeResponseBytesCache(objectMapper, true, 1024 * 1024, 1024,
+                new SimpleMeterRegistry());
+        RecipeResponseBytesCache.Entry entry = cache.put(1L, ETAG, responseDto);
+        DiscardOutputStream out = new DiscardOutputStream();
+
+        run("Jackson 직렬화", () -> objectMapper.writeValue(out, responseDto));
+        run("바이트 캐시 (JSON " + entry.json().length + "B)", () -> out.write(cache.get(1L, ETAG).json()));
+        run("바이트 캐시 (gzip " + entry.gzip().length + "B)", () -> out.write(cache.get(1L, ETAG).gzip()));
+    }
+
+    private void run(String name, Request request) throws IOException {
+        for (int i = 0; i < WARMUP; i++) {
+            request.handle();
+        }
+        long thread = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            request.handle();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+
+        System.out.printf("[단건 조회 응답] %s: 요청당 %,d B 할당, %,d ns%n", name, allocated / REQUESTS, elapsed / REQUESTS);
+    }
+
+    private RecipeResponseDto responseDto(ObjectMapper objectMapper) throws IOException {
+        RecipeRequestDto requestDto = objectMapper.readValue(objectMapper.writeValueAsString(Map.of(
+                "title", "묵은지 김치찌개 황금 레시피",
+                "content", "묵은지와 돼지고기 앞다리살을 먼저 볶은 뒤 쌀뜨물을 붓고 푹 끓인다. ".repeat(40))), RecipeRequestDto.class);
+        User user = new User("lchNumber9", "Dlckdgud11!", "이창형", "shlee509@nate.com", "안녕");
+        Recipe recipe = new Recipe(requestDto, user);
+        ReflectionTestUtils.setField(recipe, "createdAt", LocalDateTime.of(2024, 6, 1, 12, 0));
+        ReflectionTestUtils.setField(recipe, "modifiedAt", LocalDateTime.of(2024, 6, 2, 8, 30, 15));
+        return new RecipeResponseDto(recipe, user.getUserId(), 42L);
+    }
+
+    private interface Request {
+        void handle() throws IOException;
+    }
+
+    // 응답 스트림 대신 쓰기만 받고 버림 (Jackson이 close해도 계속 사용)
+    private static class DiscardOutputStream extends OutputStream {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
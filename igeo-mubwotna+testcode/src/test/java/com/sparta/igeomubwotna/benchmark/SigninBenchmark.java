@@ -0,0 +1,215 @@
+package com.sparta.igeomubwotna.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.igeomubwotna.dto.SigninRequestDto;
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.entity.UserStatusEnum;
+import com.sparta.igeomubwotna.filter.JwtAuthenticationFilter;
+import com.sparta.igeomubwotna.jwt.JwtUtil;
+import com.sparta.igeomubwotna.jwt.RefreshTokenStore;
+import com.sparta.igeomubwotna.jwt.VerifiedClaimsCache;
+import com.sparta.igeomubwotna.repository.UserRepository;
+import com.sparta.igeomubwotna.security.UserDetailsImpl;
+import com.sparta.igeomubwotna.security.UserDetailsServiceImpl;
+import com.sparta.igeomubwotna.security.UserPrincipalCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// /api/user/signin 로그인 처리량 측정 (변경 전 필터 경로 vs 현재 경로)
+// DB 왕복 한 번에 0.2ms의 지연을 주고, 비밀번호 해시 비용은 최소(strength 4)로 맞춰 필터 자체의 비용을 비교
+// 변경 전: 요청마다 ObjectMapper 생성, 인증 시 findByUserId + 성공 후 탈퇴 확인 findByUserId + RefreshToken 저장용 findByUserId / save
+// 현재: 공유 ObjectReader, principal 캐시 + 비밀번호 해시 / 상태 확인 조회 1회, RefreshToken upsert 1회
+@Tag("benchmark")
+public class SigninBenchmark {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 20_000;
+    private static final long ROUND_TRIP_NANOS = 200_000L;
+
+    private final AtomicLong queries = new AtomicLong();
+
+    @Test
+    @DisplayName("로그인 처리량")
+    void signinThroughput() throws Exception {
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+        User user = new User("lchNumber9", passwordEncoder.encode("Dlckdgud11!"), "이창형", "shlee509@nate.com", "안녕");
+        user.setId(1L);
+
+        UserRepository userRepository = mock(UserRepository.class);
+        given(userRepository.findByUserId(anyString())).willAnswer(invocation -> roundTrip(Optional.of(user)));
+        given(userRepository.save(any(User.class))).willAnswer(invocation -> roundTrip(user));
+        given(userRepository.findCredentialsByUserId(anyString())).willAnswer(invocation -> roundTrip(Optional.of(credentials(user))));
+
+        JwtUtil jwtUtil = new JwtUtil(new VerifiedClaimsCache(1000, new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(new byte[32]));
+        jwtUtil.init();
+
+        // 변경 전 경로: UserDetailsService가 매번 엔티티를 읽고, 성공 처리에서 두 번 더 읽은 뒤 users 행에 RefreshToken 저장
+        UserDetailsService legacyUserDetailsService = userId -> userRepository.findByUserId(userId)
+                .map(UserDetailsImpl::new)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with userId: " + userId));
+        runScenario("변경 전 (findByUserId 3회 + save)", new LegacySigninFilter(jwtUtil, userRepository),
+                legacyUserDetailsService, passwordEncoder);
+
+        // 현재 경로: 캐시된 스냅샷 + 비밀번호 해시 / 상태 확인 조회, refresh_token upsert
+        UserDetailsServiceImpl userDetailsService = new UserDetailsServiceImpl(userRepository,
+                new UserPrincipalCache(1000, 600, new SimpleMeterRegistry()));
+        runScenario("현재 (스냅샷 확인 조회 + refresh_token upsert)", new JwtAuthenticationFilter(jwtUtil, new RoundTripRefreshTokenStore()),
+                userDetailsService, passwordEncoder);
+    }
+
+    private void runScenario(String name, UsernamePasswordAuthenticationFilter filter, UserDetailsService userDetailsService,
+                             BCryptPasswordEncoder passwordEncoder) throws Exception {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+
+        filter.setAuthenticationManager(new ProviderManager(provider));
+        filter.setFilterProcessesUrl("/api/user/signin");
+
+        for (int i = 0; i < WARMUP; i++) {
+            signin(filter);
+        }
+
+        queries.set(0);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            signin(filter);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("[%s] %d회 로그인, %.1f req/s, 로그인당 DB 왕복 %.2f회%n",
+                name, ITERATIONS, ITERATIONS / (elapsed / 1_000_000_000.0), queries.get() / (double) ITERATIONS);
+    }
+
+    private void signin(UsernamePasswordAuthenticationFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/user/signin");
+        request.setServletPath("/api/user/signin");
+        request.setContent("{\"userId\":\"lchNumber9\",\"password\":\"Dlckdgud11!\"}".getBytes(StandardCharsets.UTF_8));
+        request.setContentType("application/json");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+        // 로그인 성공 시 AccessToken이 응답 헤더에 담김
+        assertNotNull(response.getHeader(JwtUtil.ACCESS_HEADER));
+    }
+
+    // DB 왕복 한 번을 흉내 냄
+    private <T> T roundTrip(T result) {
+        queries.incrementAndGet();
+        LockSupport.parkNanos(ROUND_TRIP_NANOS);
+        return result;
+    }
+
+    private UserRepository.CredentialsView credentials(User user) {
+        return new UserRepository.CredentialsView() {
+            @Override
+            public String getPassword() {
+                return user.getPassword();
+            }
+
+            @Override
+            public UserStatusEnum getStatus() {
+                return user.getStatus();
+            }
+        };
+    }
+
+    // refresh_token 테이블 upsert 한 번
+    private class RoundTripRefreshTokenStore implements RefreshTokenStore {
+        @Override
+        public void save(String userId, String deviceId, String refreshToken, Duration ttl) {
+            roundTrip(null);
+        }
+
+        @Override
+        public Optional<String> find(String userId, String deviceId) {
+            return roundTrip(Optional.empty());
+        }
+
+        @Override
+        public void revoke(String userId, String deviceId) {
+            roundTrip(null);
+        }
+
+        @Override
+        public void revokeAll(String userId) {
+            roundTrip(null);
+        }
+    }
+
+    // 변경 전 JwtAuthenticationFilter의 로그인 경로를 그대로 옮긴 것 (RefreshToken은 users 행에 저장했었음)
+    private static class LegacySigninFilter extends UsernamePasswordAuthenticationFilter {
+        private final JwtUtil jwtUtil;
+        private final UserRepository userRepository;
+
+        LegacySigninFilter(JwtUtil jwtUtil, UserRepository userRepository) {
+            this.jwtUtil = jwtUtil;
+            this.userRepository = userRepository;
+        }
+
+        @Override
+        public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
+            try {
+                SigninRequestDto requestDto = new ObjectMapper().readValue(request.getInputStream(), SigninRequestDto.class);
+                return getAuthenticationManager().authenticate(
+                        new UsernamePasswordAuthenticationToken(requestDto.getUserId(), requestDto.getPassword(), null));
+            } catch (IOException e) {
+                throw new RuntimeException(e.getMessage());
+            }
+        }
+
+        @Override
+        protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authResult) throws IOException {
+            String userId = ((UserDetailsImpl) authResult.getPrincipal()).getUsername();
+
+            User loginUser = userRepository.findByUserId(userId).get();
+            if (loginUser.isWithdrawn()) {
+                response.setCharacterEncoding("UTF-8");
+                response.getWriter().write("이미 탈퇴한 회원입니다.");
+                return;
+            }
+
+            response.addHeader(JwtUtil.ACCESS_HEADER, jwtUtil.createAccessToken(loginUser));
+            response.addHeader(JwtUtil.ACCESS_USERID, userId);
+
+            jwtUtil.createRefreshToken(loginUser);
+            userRepository.findByUserId(userId).ifPresent(userRepository::save);
+
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write("로그인 성공.");
+        }
+    }
+}
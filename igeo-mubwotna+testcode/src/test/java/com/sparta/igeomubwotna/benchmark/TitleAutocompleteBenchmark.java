@@ -0,0 +1,75 @@
+package com.sparta.igeomubwotna.benchmark;
+
+import com.sparta.igeomubwotna.search.TitleDictionary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 제목 100만 개 사전의 힙 사용량과 자동완성 조회 지연(p50 / p99) 측정
+// 제목은 한글 음절 2~6개 + 흔한 요리 이름 접미사로 만들고, 접두어는 실제 제목의 앞 1~3글자를 사용
+@Tag("benchmark")
+public class TitleAutocompleteBenchmark {
+
+    private static final int TITLES = 1_000_000;
+    private static final int WARMUP = 50_000;
+    private static final int QUERIES = 200_000;
+    private static final String[] SUFFIXES = {"찌개", "볶음", "전", "국", "무침", "조림", "덮밥", " 샐러드", " 파스타", ""};
+
+    @Test
+    @DisplayName("제목 자동완성 힙 사용량 / 조회 지연")
+    void autocomplete() {
+        long before = usedHeap();
+        Random random = new Random(7);
+        List<TitleDictionary.Entry> entries = new ArrayList<>(TITLES);
+        for (long id = 1; id <= TITLES; id++) {
+            StringBuilder title = new StringBuilder();
+            int syllables = 2 + random.nextInt(5);
+            for (int i = 0; i < syllables; i++) {
+                title.append((char) ('가' + random.nextInt(400)));
+            }
+            title.append(SUFFIXES[random.nextInt(SUFFIXES.length)]);
+            entries.add(new TitleDictionary.Entry(id, title.toString(), random.nextInt(10_000)));
+        }
+        String[] prefixes = new String[4096];
+        for (int i = 0; i < prefixes.length; i++) {
+            String title = entries.get(random.nextInt(TITLES)).title();
+            prefixes[i] = title.substring(0, Math.min(title.length(), 1 + random.nextInt(3)));
+        }
+
+        TitleDictionary dictionary = TitleDictionary.build(entries);
+        entries = null;
+        long after = usedHeap();
+
+        for (int i = 0; i < WARMUP; i++) {
+            dictionary.top(prefixes[i % prefixes.length], 10, id -> false);
+        }
+        long[] nanos = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long start = System.nanoTime();
+            dictionary.top(prefixes[i % prefixes.length], 10, id -> false);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        long p50 = nanos[QUERIES / 2];
+        long p99 = nanos[QUERIES * 99 / 100];
+
+        System.out.printf("[제목 자동완성] 제목 %,d개, 힙 증가 %,dKB (배열 추정 %,dKB), p50 %.1fus, p99 %.1fus%n",
+                dictionary.size(), (after - before) / 1024, dictionary.estimatedBytes() / 1024, p50 / 1000.0, p99 / 1000.0);
+        assertTrue(p99 < 1_000_000L, "p99가 1ms를 넘음: " + p99 + "ns");
+    }
+
+    private long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
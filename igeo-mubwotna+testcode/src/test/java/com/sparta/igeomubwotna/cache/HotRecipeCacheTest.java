@@ -0,0 +1,67 @@
+package com.sparta.igeomubwotna.cache;
+
+import com.sparta.igeomubwotna.dto.RecipeResponseDto;
+import com.sparta.igeomubwotna.entity.Recipe;
+import com.sparta.igeomubwotna.event.RecipeChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+public class HotRecipeCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final HotRecipeCache hotRecipeCache = new HotRecipeCache(1024 * 1024, 10, new SimpleMeterRegistry(), nanos::get);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("캐시에 있으면 다시 읽지 않고 적중 횟수를 기록")
+    void readThrough() {
+        RecipeResponseDto first = hotRecipeCache.get(1L, this::load);
+        RecipeResponseDto second = hotRecipeCache.get(1L, this::load);
+        hotRecipeCache.get(2L, this::load);
+
+        assertSame(first, second);
+        assertEquals(2, loads.get());
+        assertEquals(1L, hotRecipeCache.hottest(1).get(0).getRecipeId());
+        assertEquals(2L, hotRecipeCache.hottest(1).get(0).getHits());
+    }
+
+    @Test
+    @DisplayName("수정 / 삭제 / 좋아요 이벤트가 오면 다시 읽음")
+    void invalidateOnChange() {
+        hotRecipeCache.get(1L, this::load);
+        hotRecipeCache.onRecipeChanged(new RecipeChangedEvent(1L, RecipeChangedEvent.Type.LIKED));
+        hotRecipeCache.get(1L, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("이벤트가 오지 않아도(다른 서버에서 변경) ttl이 지나면 다시 읽음")
+    void expireAfterWrite() {
+        hotRecipeCache.get(1L, this::load);
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        hotRecipeCache.get(1L, this::load);
+        assertEquals(1, loads.get());
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertNull(hotRecipeCache.getIfPresent(1L));
+        hotRecipeCache.get(1L, this::load);
+        assertEquals(2, loads.get());
+    }
+
+    private RecipeResponseDto load(Long recipeId) {
+        loads.incrementAndGet();
+        return new RecipeResponseDto(mock(Recipe.class), "writer" + recipeId);
+    }
+}
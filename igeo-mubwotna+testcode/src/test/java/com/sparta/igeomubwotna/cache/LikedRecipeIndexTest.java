@@ -0,0 +1,69 @@
+package com.sparta.igeomubwotna.cache;
+
+import com.sparta.igeomubwotna.event.RecipeLikeChangedEvent;
+import com.sparta.igeomubwotna.repository.RecipeLikesRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class LikedRecipeIndexTest {
+
+    private final RecipeLikesRepository recipeLikesRepository = mock(RecipeLikesRepository.class);
+    private final AtomicLong nanos = new AtomicLong();
+    private final LikedRecipeIndex likedRecipeIndex =
+            new LikedRecipeIndex(recipeLikesRepository, 1000, 300, new SimpleMeterRegistry(), nanos::get);
+
+    @Test
+    @DisplayName("처음 한 번만 DB에서 읽고 이후 좋아요 추가 / 취소는 메모리에서 반영")
+    void loadOnceThenUpdate() {
+        given(recipeLikesRepository.findRecipeIdsByUserId(1L)).willReturn(List.of(30L, 10L, 20L));
+
+        assertTrue(likedRecipeIndex.get(1L).contains(20L));
+
+        likedRecipeIndex.onRecipeLikeChanged(new RecipeLikeChangedEvent(1L, 15L, true));
+        likedRecipeIndex.onRecipeLikeChanged(new RecipeLikeChangedEvent(1L, 20L, false));
+
+        LongIdSet likedIds = likedRecipeIndex.get(1L);
+        assertTrue(likedIds.contains(10L));
+        assertTrue(likedIds.contains(15L));
+        assertFalse(likedIds.contains(20L));
+        assertTrue(likedIds.contains(30L));
+        verify(recipeLikesRepository, times(1)).findRecipeIdsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("DB에서 읽은 뒤 ttl이 지나면 다시 읽고, 이벤트로 갱신해도 만료 시각은 늘어나지 않음")
+    void expireAfterLoad() {
+        given(recipeLikesRepository.findRecipeIdsByUserId(1L)).willReturn(List.of(10L), List.of(10L, 40L));
+        likedRecipeIndex.get(1L);
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(299));
+        likedRecipeIndex.onRecipeLikeChanged(new RecipeLikeChangedEvent(1L, 15L, true));
+        assertTrue(likedRecipeIndex.get(1L).contains(15L));
+
+        // 다른 서버에서 누른 좋아요(40)도 만료 후 다시 읽으면 반영
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertTrue(likedRecipeIndex.get(1L).contains(40L));
+        verify(recipeLikesRepository, times(2)).findRecipeIdsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("아직 읽지 않은 사용자의 이벤트는 무시 (다음 조회 때 DB에서 읽음)")
+    void ignoreUnloadedUser() {
+        likedRecipeIndex.onRecipeLikeChanged(new RecipeLikeChangedEvent(2L, 15L, true));
+
+        verifyNoInteractions(recipeLikesRepository);
+    }
+}
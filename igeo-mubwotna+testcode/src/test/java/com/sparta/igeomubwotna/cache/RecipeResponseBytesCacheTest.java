@@ -0,0 +1,57 @@
+package com.sparta.igeomubwotna.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.igeomubwotna.event.RecipeChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class RecipeResponseBytesCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RecipeResponseBytesCache cache =
+            new RecipeResponseBytesCache(objectMapper, true, 1024 * 1024, 256, new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("같은 버전일 때만 직렬화해 둔 바이트를 반환")
+    void sameVersionOnly() throws IOException {
+        Map<String, Object> body = Map.of("title", "김치찌개", "recipeLikes", 3);
+        RecipeResponseBytesCache.Entry stored = cache.put(1L, "\"v1\"", body);
+
+        assertSame(stored, cache.get(1L, "\"v1\""));
+        assertNull(cache.get(1L, "\"v2\""));
+        assertNull(cache.get(2L, "\"v1\""));
+        assertEquals(body, objectMapper.readValue(stored.json(), Map.class));
+        // 작은 응답은 gzip 하지 않음
+        assertNull(stored.gzip());
+
+        cache.onRecipeChanged(new RecipeChangedEvent(1L, RecipeChangedEvent.Type.UPDATED));
+        assertNull(cache.get(1L, "\"v1\""));
+    }
+
+    @Test
+    @DisplayName("gzip-min-bytes 이상이면 gzip 바이트도 저장")
+    void gzip() throws IOException {
+        Map<String, Object> body = Map.of("content", "재료를 손질하고 끓인다. ".repeat(50));
+        RecipeResponseBytesCache.Entry stored = cache.put(1L, "\"v1\"", body);
+
+        byte[] unzipped = new GZIPInputStream(new ByteArrayInputStream(stored.gzip())).readAllBytes();
+        assertArrayEquals(stored.json(), unzipped);
+    }
+
+    @Test
+    @DisplayName("gzip 응답의 ETag는 JSON 응답과 구분되도록 따옴표 안에 -gz를 붙임")
+    void gzipETag() {
+        assertEquals("\"v1-gz\"", RecipeResponseBytesCache.gzipETag("\"v1\""));
+    }
+}
@@ -0,0 +1,129 @@
+package com.sparta.igeomubwotna.cache;
+
+import com.sparta.igeomubwotna.dto.TrendingRecipeDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TrendingRecipeBoardTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:trending;MODE=MySQL;DB_CLOSE_DELAY=-1"));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS recipe");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS recipe_likes");
+        jdbcTemplate.execute("CREATE TABLE recipe (id BIGINT PRIMARY KEY, title VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE recipe_likes (id BIGINT AUTO_INCREMENT PRIMARY KEY, recipe_id BIGINT, created_at DATETIME(6))");
+        for (long id = 1; id <= 10; id++) {
+            jdbcTemplate.update("INSERT INTO recipe (id, title) VALUES (?, ?)", id, "레시피" + id);
+        }
+    }
+
+    @Test
+    @DisplayName("오래된 좋아요는 반감기마다 절반으로 줄어서 최근 좋아요가 많은 레시피가 앞섬")
+    void decay() {
+        TrendingRecipeBoard board = new TrendingRecipeBoard(jdbcTemplate, 10, 100, 360, new SimpleMeterRegistry());
+        long now = System.currentTimeMillis();
+
+        // 12시간(반감기 2번) 전 좋아요 10개 -> 2.5, 방금 좋아요 3개 -> 3
+        for (int i = 0; i < 10; i++) {
+            board.record(1L, 1, now - 12 * HOUR);
+        }
+        for (int i = 0; i < 3; i++) {
+            board.record(2L, 1, now);
+        }
+        board.refresh(now);
+
+        List<TrendingRecipeDto> top = board.top();
+        assertEquals(List.of(2L, 1L), top.stream().map(TrendingRecipeDto::getRecipeId).toList());
+        assertEquals("레시피2", top.get(0).getTitle());
+        assertEquals(3.0, top.get(0).getScore(), 0.01);
+        assertEquals(2.5, top.get(1).getScore(), 0.01);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 누른 좋아요도 recipe_likes에서 읽어서 반영하고, 방금 추가된 행은 다음 갱신에 반영")
+    void feedFromRecipeLikes() {
+        TrendingRecipeBoard board = new TrendingRecipeBoard(jdbcTemplate, 10, 100, 360, new SimpleMeterRegistry());
+        long now = System.currentTimeMillis();
+        // 시작 전에 있던 좋아요는 반영하지 않음
+        like(1L, now - HOUR);
+        board.refresh(now);
+
+        for (int i = 0; i < 3; i++) {
+            like(3L, now);
+        }
+        like(4L, now + 9_000);
+        board.refresh(now + 10_000);
+        assertEquals(List.of(3L), board.top().stream().map(TrendingRecipeDto::getRecipeId).toList());
+        assertEquals(3.0, board.top().get(0).getScore(), 0.01);
+
+        board.refresh(now + 20_000);
+        assertEquals(List.of(3L, 4L), board.top().stream().map(TrendingRecipeDto::getRecipeId).toList());
+    }
+
+    @Test
+    @DisplayName("먼저 번호를 받고 늦게 커밋된 좋아요도 건너뛴 id를 다시 확인해서 반영")
+    void feedLateCommit() {
+        TrendingRecipeBoard board = new TrendingRecipeBoard(jdbcTemplate, 10, 100, 360, new SimpleMeterRegistry());
+        long now = System.currentTimeMillis();
+        like(1L, now - HOUR);
+        board.refresh(now);
+
+        // id 3이 먼저 커밋되어 반영되고, id 2는 그 뒤에 커밋됨
+        likeWithId(3L, 5L, now);
+        board.refresh(now + 10_000);
+        assertEquals(List.of(5L), board.top().stream().map(TrendingRecipeDto::getRecipeId).toList());
+
+        likeWithId(2L, 6L, now);
+        board.refresh(now + 20_000);
+        assertEquals(List.of(5L, 6L), board.top().stream().map(TrendingRecipeDto::getRecipeId).sorted().toList());
+    }
+
+    @Test
+    @DisplayName("후보 수는 capacity로 제한되고, 없는 레시피는 순위에서 빠짐")
+    void bounded() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TrendingRecipeBoard board = new TrendingRecipeBoard(jdbcTemplate, 2, 3, 360, meterRegistry);
+        long now = System.currentTimeMillis();
+
+        // 레시피 id만큼 좋아요, 99번은 DB에 없는 레시피
+        for (long id = 1; id <= 5; id++) {
+            for (int i = 0; i < id; i++) {
+                board.record(id, 1, now);
+            }
+        }
+        for (int i = 0; i < 20; i++) {
+            board.record(99L, 1, now);
+        }
+        assertEquals(6.0, meterRegistry.get("recipe.trending.candidates").gauge().value());
+
+        // 후보는 99, 5, 4만 남고, 99는 제목 조회에서 없는 레시피로 확인되어 제거
+        board.refresh(now);
+        assertEquals(List.of(5L), board.top().stream().map(TrendingRecipeDto::getRecipeId).toList());
+        assertEquals(2.0, meterRegistry.get("recipe.trending.candidates").gauge().value());
+
+        board.refresh(now);
+        assertEquals(List.of(5L, 4L), board.top().stream().map(TrendingRecipeDto::getRecipeId).toList());
+    }
+
+    private void like(Long recipeId, long likedAt) {
+        jdbcTemplate.update("INSERT INTO recipe_likes (recipe_id, created_at) VALUES (?, ?)", recipeId, new Timestamp(likedAt));
+    }
+
+    private void likeWithId(Long id, Long recipeId, long likedAt) {
+        jdbcTemplate.update("INSERT INTO recipe_likes (id, recipe_id, created_at) VALUES (?, ?, ?)", id, recipeId, new Timestamp(likedAt));
+    }
+}
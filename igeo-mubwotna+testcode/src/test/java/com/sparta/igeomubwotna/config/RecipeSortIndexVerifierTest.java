@@ -0,0 +1,53 @@
+package com.sparta.igeomubwotna.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 테이블명이 대문자로 저장되는 DB(H2)에서도 recipe 테이블의 (정렬 컬럼, id) 인덱스를 찾는지 확인
+public class RecipeSortIndexVerifierTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:sortindex;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS recipe");
+        // 따옴표 없이 만들면 H2는 RECIPE / CREATED_AT처럼 대문자로 저장
+        jdbcTemplate.execute("CREATE TABLE recipe (id BIGINT PRIMARY KEY, recipe_likes BIGINT, " +
+                "created_at TIMESTAMP, modified_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE INDEX idx_recipe_created_at_id ON recipe (created_at, id)");
+        jdbcTemplate.execute("CREATE INDEX idx_recipe_recipe_likes_id ON recipe (recipe_likes, id)");
+    }
+
+    @Test
+    @DisplayName("테이블명 대소문자와 관계없이 정렬 인덱스를 모두 찾으면 통과")
+    void allIndexesPresent() {
+        jdbcTemplate.execute("CREATE INDEX idx_recipe_modified_at_id ON recipe (modified_at, id)");
+
+        assertDoesNotThrow(() -> new RecipeSortIndexVerifier(dataSource, true).verify());
+    }
+
+    @Test
+    @DisplayName("빠진 인덱스가 있으면 기동 중단")
+    void missingIndex() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> new RecipeSortIndexVerifier(dataSource, true).verify());
+
+        assertTrue(e.getMessage().contains("RECENTLY_MODIFIED"));
+    }
+
+    @Test
+    @DisplayName("fail-on-missing=false면 경고만 남김")
+    void warnOnly() {
+        assertDoesNotThrow(() -> new RecipeSortIndexVerifier(dataSource, false).verify());
+    }
+}
@@ -0,0 +1,32 @@
+package com.sparta.igeomubwotna.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Accept-Encoding의 q 값을 읽어서 gzip 허용 여부를 판단하는지 확인
+public class AcceptEncodingTest {
+
+    @Test
+    @DisplayName("gzip이 q > 0으로 있으면 허용")
+    void acceptsGzip() {
+        assertTrue(AcceptEncoding.acceptsGzip("gzip"));
+        assertTrue(AcceptEncoding.acceptsGzip("deflate, GZIP;q=0.5, br"));
+        assertTrue(AcceptEncoding.acceptsGzip("x-gzip"));
+        assertTrue(AcceptEncoding.acceptsGzip("br;q=1.0, *;q=0.1"));
+    }
+
+    @Test
+    @DisplayName("q=0이거나 잘못된 q, gzip이 없으면 거부")
+    void rejectsGzip() {
+        assertFalse(AcceptEncoding.acceptsGzip(null));
+        assertFalse(AcceptEncoding.acceptsGzip("gzip;q=0"));
+        assertFalse(AcceptEncoding.acceptsGzip("gzip; q=0.000, *"));
+        assertFalse(AcceptEncoding.acceptsGzip("gzip;q=abc"));
+        assertFalse(AcceptEncoding.acceptsGzip("identity, br"));
+        assertFalse(AcceptEncoding.acceptsGzip("*;q=0"));
+        assertFalse(AcceptEncoding.acceptsGzip("gzipped"));
+    }
+}
@@ -0,0 +1,113 @@
+package com.sparta.igeomubwotna.counter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 내장 DB(H2, MySQL 모드)에 좋아요 수가 틀어진 레시피 / 댓글을 만들어 두고 보정
+public class LikeCountReconcilerTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:like-reconcile;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final int ROWS = 10;
+
+    private JdbcTemplate jdbcTemplate;
+    private LikeCounter likeCounter;
+    private LikeCountReconciler reconciler;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        DataSource dataSource = new DriverManagerDataSource(DB_URL);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS like_reconcile_checkpoint");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS recipe_likes");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS comment_likes");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS recipe");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS comment");
+        jdbcTemplate.execute("CREATE TABLE recipe (id BIGINT PRIMARY KEY, recipe_likes BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE comment (id BIGINT PRIMARY KEY, like_count BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE recipe_likes (id BIGINT AUTO_INCREMENT PRIMARY KEY, recipe_id BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE comment_likes (id BIGINT AUTO_INCREMENT PRIMARY KEY, comment_id BIGINT)");
+
+        // id가 짝수인 행만 저장된 좋아요 수가 실제(id개)와 다름 (레시피는 null, 댓글은 3개 많음)
+        for (long id = 1; id <= ROWS; id++) {
+            long stored = id % 2 == 0 ? id + 3 : id;
+            jdbcTemplate.update("INSERT INTO recipe (id, recipe_likes) VALUES (?, ?)", id, id % 2 == 0 ? null : stored);
+            jdbcTemplate.update("INSERT INTO comment (id, like_count) VALUES (?, ?)", id, stored);
+            for (int i = 0; i < id; i++) {
+                jdbcTemplate.update("INSERT INTO recipe_likes (recipe_id) VALUES (?)", id);
+                jdbcTemplate.update("INSERT INTO comment_likes (comment_id) VALUES (?)", id);
+            }
+        }
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        ApplicationEventPublisher eventPublisher = event -> {
+        };
+        meterRegistry = new SimpleMeterRegistry();
+        ShardedLikeStore shardedLikeStore = new ShardedLikeStore(jdbcTemplate, transactionManager, eventPublisher,
+                false, 16, 50, 1000, 2);
+        likeCounter = new LikeCounter(jdbcTemplate, transactionManager, eventPublisher, shardedLikeStore, meterRegistry);
+        // chunk 3개 x window 2개 = id 6개마다 체크포인트
+        reconciler = new LikeCountReconciler(jdbcTemplate, dataSource, transactionManager, eventPublisher, likeCounter,
+                shardedLikeStore, meterRegistry, 3, 2, 0L, 0.25, 0L);
+        reconciler.createTable();
+    }
+
+    @Test
+    @DisplayName("실제 좋아요 행 수와 다른 행만 보정하고, 끝나면 체크포인트를 지움")
+    void reconcile() {
+        reconciler.run();
+
+        for (long id = 1; id <= ROWS; id++) {
+            assertEquals(id, recipeLikes(id));
+            assertEquals(id, commentLikes(id));
+        }
+        assertEquals(5.0, meterRegistry.get("like.reconcile.corrections").tag("target", "recipe").counter().count());
+        assertEquals(5.0, meterRegistry.get("like.reconcile.corrections").tag("target", "comment").counter().count());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM like_reconcile_checkpoint", Integer.class).intValue());
+    }
+
+    @Test
+    @DisplayName("체크포인트가 남아 있으면 그 id부터 이어서 보정")
+    void resumeFromCheckpoint() {
+        jdbcTemplate.update("INSERT INTO like_reconcile_checkpoint (target, next_id, updated_at) VALUES ('RECIPE', 6, NOW())");
+
+        reconciler.run();
+
+        assertEquals(0L, recipeLikes(4L));   // 체크포인트 이전은 그대로
+        assertEquals(6L, recipeLikes(6L));
+        assertEquals(10L, recipeLikes(10L));
+        assertEquals(4L, commentLikes(4L));  // 댓글은 처음부터
+    }
+
+    @Test
+    @DisplayName("이 서버에 아직 반영되지 않은 증감분이 있는 행은 보정하지 않음")
+    void skipPending() {
+        likeCounter.addRecipeLike(2L, 1L);
+
+        reconciler.run();
+
+        assertEquals(0L, recipeLikes(2L));
+        likeCounter.flush();
+        assertEquals(1L, recipeLikes(2L));
+        assertEquals(4L, recipeLikes(4L));
+    }
+
+    private long recipeLikes(Long id) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(recipe_likes, 0) FROM recipe WHERE id = ?", Long.class, id);
+    }
+
+    private long commentLikes(Long id) {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM comment WHERE id = ?", Long.class, id);
+    }
+}
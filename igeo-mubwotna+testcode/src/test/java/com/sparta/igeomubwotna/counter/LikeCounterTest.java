@@ -0,0 +1,117 @@
+package com.sparta.igeomubwotna.counter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class LikeCounterTest {
+
+    private static final Long RECIPE_ID = 1L;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final AtomicLong persisted = new AtomicLong();  // DB의 recipe_likes 역할
+    private final AtomicBoolean failNextFlush = new AtomicBoolean();
+    private LikeCounter likeCounter;
+
+    @BeforeEach
+    void setup() {
+        given(jdbcTemplate.batchUpdate(startsWith("UPDATE recipe"), anyList())).willAnswer(invocation -> {
+            if (failNextFlush.getAndSet(false)) {
+                throw new DataAccessResourceFailureException("connection lost");
+            }
+            List<Object[]> args = invocation.getArgument(1);
+            for (Object[] row : args) {
+                persisted.addAndGet((Long) row[0]);
+            }
+            return new int[args.size()];
+        });
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        ShardedLikeStore shardedLikeStore = new ShardedLikeStore(jdbcTemplate, transactionManager, eventPublisher,
+                false, 8, 100, 1000, 2);
+        likeCounter = new LikeCounter(jdbcTemplate, transactionManager, eventPublisher, shardedLikeStore,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("64개 스레드가 같은 레시피에 좋아요를 눌러도 flush 중에 누락되는 좋아요가 없음")
+    void noLostLikes() throws Exception {
+        int threads = 64;
+        int likesPerThread = 10_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < likesPerThread; j++) {
+                        likeCounter.addRecipeLike(RECIPE_ID, 1L);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // 좋아요가 쌓이는 동안 계속 flush (중간에 한 번은 DB 반영 실패)
+        start.countDown();
+        int flushes = 0;
+        while (done.getCount() > 0) {
+            if (flushes++ == 10) {
+                failNextFlush.set(true);
+            }
+            likeCounter.flush();
+            long visible = persisted.get() + likeCounter.getPendingRecipeLikes(RECIPE_ID);
+            assertTrue(visible <= (long) threads * likesPerThread);
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        likeCounter.flush();
+
+        assertEquals((long) threads * likesPerThread, persisted.get());
+        assertEquals(0L, likeCounter.getPendingRecipeLikes(RECIPE_ID));
+    }
+
+    @Test
+    @DisplayName("반영 실패한 증감분은 조회 값에 남아 있다가 다음 flush에서 반영")
+    void restoreOnFailure() {
+        likeCounter.addRecipeLike(RECIPE_ID, 1L);
+        likeCounter.addRecipeLike(RECIPE_ID, 1L);
+        likeCounter.addRecipeLike(RECIPE_ID, -1L);
+
+        failNextFlush.set(true);
+        likeCounter.flush();
+        assertEquals(0L, persisted.get());
+        assertEquals(1L, likeCounter.getPendingRecipeLikes(RECIPE_ID));
+
+        likeCounter.flush();
+        assertEquals(1L, persisted.get());
+        assertEquals(0L, likeCounter.getPendingRecipeLikes(RECIPE_ID));
+    }
+}
@@ -0,0 +1,205 @@
+package com.sparta.igeomubwotna.counter;
+
+import com.sparta.igeomubwotna.event.RecipeChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 같은 내장 DB(H2, MySQL 모드)를 쓰는 애플리케이션 컨텍스트 두 개를 서버 두 대로 보고 같은 레시피에 좋아요를 반영
+public class ShardedLikeStoreTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:sharded-likes;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final Long RECIPE_ID = 1L;
+    private static final int THREADS_PER_NODE = 8;
+    private static final int LIKES_PER_THREAD = 2_000;
+
+    private final List<AnnotationConfigApplicationContext> nodes = new ArrayList<>();
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(DB_URL));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS recipe_like_slot");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS recipe");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS comment");
+        jdbcTemplate.execute("CREATE TABLE recipe (id BIGINT PRIMARY KEY, recipe_likes BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE comment (id BIGINT PRIMARY KEY, like_count BIGINT)");
+        jdbcTemplate.update("INSERT INTO recipe (id, recipe_likes) VALUES (?, 0)", RECIPE_ID);
+
+        nodes.add(startNode());
+        nodes.add(startNode());
+    }
+
+    @AfterEach
+    void close() {
+        nodes.forEach(AnnotationConfigApplicationContext::close);
+    }
+
+    @Test
+    @DisplayName("두 서버가 같은 레시피에 좋아요를 반영해도 슬롯으로 나뉘고 합계는 정확함")
+    void twoNodes() throws Exception {
+        int total = nodes.size() * THREADS_PER_NODE * LIKES_PER_THREAD;
+
+        ExecutorService executor = Executors.newFixedThreadPool(nodes.size() * THREADS_PER_NODE);
+        CountDownLatch done = new CountDownLatch(nodes.size() * THREADS_PER_NODE);
+        for (AnnotationConfigApplicationContext node : nodes) {
+            LikeCounter likeCounter = node.getBean(LikeCounter.class);
+            for (int i = 0; i < THREADS_PER_NODE; i++) {
+                executor.submit(() -> {
+                    try {
+                        for (int j = 0; j < LIKES_PER_THREAD; j++) {
+                            likeCounter.addRecipeLike(RECIPE_ID, 1L);
+                            if (j % 100 == 99) {
+                                Thread.sleep(1);  // 여러 번의 flush에 걸쳐 들어오도록
+                            }
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                    return null;
+                });
+            }
+        }
+
+        // 좋아요가 들어오는 동안 두 서버가 각자 주기적으로 flush
+        while (!done.await(5, TimeUnit.MILLISECONDS)) {
+            nodes.forEach(node -> node.getBean(LikeCounter.class).flush());
+        }
+        executor.shutdown();
+        nodes.forEach(node -> node.getBean(LikeCounter.class).flush());
+
+        // 두 서버 모두 슬롯 모드로 전환되었고, 실제로 여러 슬롯에 나뉘어 기록됨
+        nodes.forEach(node -> node.getBean(ShardedLikeStore.class).refresh());
+        for (AnnotationConfigApplicationContext node : nodes) {
+            assertTrue(node.getBean(ShardedLikeStore.class).isSharded(RECIPE_ID));
+        }
+        Integer usedSlots = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM recipe_like_slot WHERE recipe_id = ? AND delta <> 0", Integer.class, RECIPE_ID);
+        assertTrue(usedSlots > 1);
+
+        // 어느 서버에서 읽어도 recipe_likes + 슬롯 합계 = 전체 좋아요 수
+        for (AnnotationConfigApplicationContext node : nodes) {
+            assertEquals((long) total, node.getBean(LikeCounter.class).getRecipeLikes(RECIPE_ID, persistedLikes()));
+        }
+
+        // 슬롯을 recipe_likes로 합친 뒤에도 합계는 그대로
+        nodes.get(0).getBean(ShardedLikeStore.class).consolidate();
+        assertEquals((long) total, persistedLikes().longValue());
+        assertEquals(0L, jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(delta), 0) FROM recipe_like_slot WHERE recipe_id = ?", Long.class, RECIPE_ID).longValue());
+    }
+
+    @Test
+    @DisplayName("합칠 값 없이 연속으로 consolidate가 지나간 레시피는 슬롯 행을 지우고 다시 recipe 행에 기록")
+    void demoteIdleRecipe() {
+        ShardedLikeStore store = nodes.get(0).getBean(ShardedLikeStore.class);
+        ShardedLikeStore other = nodes.get(1).getBean(ShardedLikeStore.class);
+        store.promote(RECIPE_ID);
+        other.refresh();
+        assertTrue(other.isSharded(RECIPE_ID));
+        nodes.get(0).getBean(LikeCounter.class).addRecipeLike(RECIPE_ID, 1L);
+        nodes.get(0).getBean(LikeCounter.class).flush();
+
+        // 합칠 값이 있으면 유지, 이후 두 번 연속으로 비어 있으면 해제
+        store.consolidate();
+        store.consolidate();
+        assertTrue(store.isSharded(RECIPE_ID));
+        store.consolidate();
+        assertFalse(store.isSharded(RECIPE_ID));
+        assertEquals(0, slotRows());
+
+        // 다른 서버도 refresh에서 해제하고, 그 전에 들어온 좋아요도 recipe 행에 반영
+        other.refresh();
+        assertFalse(other.isSharded(RECIPE_ID));
+        nodes.get(1).getBean(LikeCounter.class).addRecipeLike(RECIPE_ID, 1L);
+        nodes.get(1).getBean(LikeCounter.class).flush();
+        assertEquals(2L, persistedLikes().longValue());
+    }
+
+    @Test
+    @DisplayName("레시피가 삭제되면 슬롯 행도 지움 (다른 서버에서 삭제된 레시피는 consolidate에서 지움)")
+    void deleteSlotsOfDeletedRecipe() {
+        ShardedLikeStore store = nodes.get(0).getBean(ShardedLikeStore.class);
+        store.promote(RECIPE_ID);
+        store.onRecipeChanged(new RecipeChangedEvent(RECIPE_ID, RecipeChangedEvent.Type.DELETED));
+        assertFalse(store.isSharded(RECIPE_ID));
+        assertEquals(0, slotRows());
+
+        store.promote(RECIPE_ID);
+        store.increment(Map.of(RECIPE_ID, 3L));
+        jdbcTemplate.update("DELETE FROM recipe WHERE id = ?", RECIPE_ID);
+        store.consolidate();
+        assertFalse(store.isSharded(RECIPE_ID));
+        assertEquals(0, slotRows());
+    }
+
+    private int slotRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM recipe_like_slot WHERE recipe_id = ?", Integer.class, RECIPE_ID);
+    }
+
+    private Long persistedLikes() {
+        return jdbcTemplate.queryForObject("SELECT recipe_likes FROM recipe WHERE id = ?", Long.class, RECIPE_ID);
+    }
+
+    private AnnotationConfigApplicationContext startNode() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("like", Map.of(
+                "like.shard.enabled", "true",
+                "like.shard.slots", "8",
+                "like.shard.promote-rate-per-second", "100",
+                "like.shard.read-cache-ms", "0",
+                "like.shard.demote-idle-consolidations", "2")));
+        context.register(NodeConfig.class);
+        context.refresh();
+        return context;
+    }
+
+    @Configuration
+    @Import({LikeCounter.class, ShardedLikeStore.class})
+    static class NodeConfig {
+        @Bean
+        DataSource dataSource() {
+            return new DriverManagerDataSource(DB_URL);
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.sparta.igeomubwotna.filter;
+
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.entity.UserStatusEnum;
+import com.sparta.igeomubwotna.jwt.InMemoryRefreshTokenStore;
+import com.sparta.igeomubwotna.jwt.JwtUtil;
+import com.sparta.igeomubwotna.jwt.VerifiedClaimsCache;
+import com.sparta.igeomubwotna.repository.UserRepository;
+import com.sparta.igeomubwotna.security.RevokedUserRegistry;
+import com.sparta.igeomubwotna.security.UserDetailsImpl;
+import com.sparta.igeomubwotna.security.UserDetailsServiceImpl;
+import com.sparta.igeomubwotna.security.UserPrincipalCache;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+// 인가 필터가 요청 하나를 처리할 때 발생하는 users 조회 횟수 비교
+@ExtendWith(MockitoExtension.class)
+public class JwtAuthorizationFilterTest {
+    @Mock
+    UserRepository userRepository;
+
+    private JwtUtil jwtUtil;
+    private JdbcTemplate jdbcTemplate;
+    private RevokedUserRegistry revokedUserRegistry;
+    private InMemoryRefreshTokenStore refreshTokenStore;
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        jwtUtil = new JwtUtil(new VerifiedClaimsCache(1000, new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(new byte[32]));
+        jwtUtil.init();
+
+        // user_revocation은 서버끼리 공유하는 테이블이므로 H2에 만들고, 캐시 없이(ttl 0) 매번 읽게 함
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:revocation;MODE=MySQL;DB_CLOSE_DELAY=-1"));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS user_revocation");
+        revokedUserRegistry = new RevokedUserRegistry(jdbcTemplate, 1000, 0);
+        revokedUserRegistry.createTable();
+
+        user = new User("lchNumber9", "Dlckdgud11!", "이창형", "shlee509@nate.com", "안녕");
+        user.setId(1L);
+        refreshTokenStore = new InMemoryRefreshTokenStore("build/tmp/refresh-tokens.snapshot", true);
+        refreshTokenStore.save(user.getUserId(), JwtUtil.DEFAULT_DEVICE, jwtUtil.createRefreshToken(user), Duration.ofDays(14));
+    }
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("DATABASE 모드는 요청마다 users를 두 번 조회")
+    void databaseMode() throws Exception {
+        given(userRepository.findByUserId(user.getUserId())).willReturn(Optional.of(user));
+
+        doFilter(AuthorizationMode.DATABASE);
+
+        verify(userRepository, times(2)).findByUserId(user.getUserId());
+        assertAuthenticated();
+    }
+
+    @Test
+    @DisplayName("CLAIMS 모드는 users를 조회하지 않음")
+    void claimsMode() throws Exception {
+        doFilter(AuthorizationMode.CLAIMS);
+
+        verifyNoInteractions(userRepository);
+        assertAuthenticated();
+        assertEquals(user.getId(), ((UserDetailsImpl) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getUser().getId());
+    }
+
+    @Test
+    @DisplayName("CLAIMS 모드라도 로그아웃 이전에 발급된 토큰은 DB로 확인")
+    void claimsModeRevoked() throws Exception {
+        String accessToken = jwtUtil.createAccessToken(user);
+        Thread.sleep(5);
+        revokedUserRegistry.revoke(user.getId());
+        given(userRepository.findByUserId(user.getUserId())).willReturn(Optional.of(user));
+
+        doFilter(AuthorizationMode.CLAIMS, accessToken);
+
+        verify(userRepository, times(2)).findByUserId(user.getUserId());
+    }
+
+    @Test
+    @DisplayName("CLAIMS 모드라도 다른 서버에서 로그아웃한 사용자의 토큰은 DB로 확인")
+    void claimsModeRevokedOnOtherNode() throws Exception {
+        String accessToken = jwtUtil.createAccessToken(user);
+        Thread.sleep(5);
+        new RevokedUserRegistry(jdbcTemplate, 1000, 5000).revoke(user.getId());
+        given(userRepository.findByUserId(user.getUserId())).willReturn(Optional.of(user));
+
+        doFilter(AuthorizationMode.CLAIMS, accessToken);
+
+        verify(userRepository, times(2)).findByUserId(user.getUserId());
+    }
+
+    @Test
+    @DisplayName("AccessToken 재발급은 RefreshToken의 상태 Claim이 아니라 현재 사용자 상태를 담음")
+    void refreshUsesCurrentStatus() {
+        String refreshToken = refreshTokenStore.find(user.getUserId(), JwtUtil.DEFAULT_DEVICE).orElseThrow();
+        // RefreshToken 발급 후 탈퇴
+        user.withdraw();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String newToken = jwtUtil.refreshAccessToken(refreshToken, user, response);
+
+        Claims claims = jwtUtil.getUserInfoFromToken(newToken.substring(JwtUtil.BEARER_PREFIX.length()));
+        assertEquals(UserStatusEnum.WITHDRAWN, jwtUtil.getStatus(claims));
+        assertEquals(newToken, response.getHeader(JwtUtil.ACCESS_HEADER));
+    }
+
+    private void doFilter(AuthorizationMode mode) throws Exception {
+        doFilter(mode, jwtUtil.createAccessToken(user));
+    }
+
+    private void doFilter(AuthorizationMode mode, String accessToken) throws Exception {
+        JwtAuthorizationFilter filter = new JwtAuthorizationFilter(
+                jwtUtil, new UserDetailsServiceImpl(userRepository, new UserPrincipalCache(1000, 600, new SimpleMeterRegistry())), userRepository, refreshTokenStore, revokedUserRegistry, mode);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/recipe/1");
+        request.addHeader(JwtUtil.ACCESS_HEADER, accessToken);
+        request.addHeader(JwtUtil.ACCESS_USERID, user.getUserId());
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    private void assertAuthenticated() {
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+}
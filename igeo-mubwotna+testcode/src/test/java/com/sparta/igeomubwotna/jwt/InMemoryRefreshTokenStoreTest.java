@@ -0,0 +1,90 @@
+package com.sparta.igeomubwotna.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 기기별 저장 / 조회 / 로그아웃, 만료, 스냅샷 복구, 서버 한 대 명시 여부 확인
+public class InMemoryRefreshTokenStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private String snapshotFile;
+    private InMemoryRefreshTokenStore store;
+
+    @BeforeEach
+    void setup() {
+        snapshotFile = tempDir.resolve("refresh-tokens.snapshot").toString();
+        store = new InMemoryRefreshTokenStore(snapshotFile, true);
+    }
+
+    @Test
+    @DisplayName("서버 한 대 운영을 명시하지 않으면 기동하지 않음")
+    void requiresSingleNode() {
+        assertThrows(IllegalStateException.class, () -> new InMemoryRefreshTokenStore(snapshotFile, false));
+    }
+
+    @Test
+    @DisplayName("기기별로 저장하고, 같은 기기는 덮어쓰고, 로그아웃한 기기만 지움")
+    void saveFindRevoke() {
+        store.save("lchNumber9", "phone", "token-1", Duration.ofDays(14));
+        store.save("lchNumber9", "phone", "token-2", Duration.ofDays(14));
+        store.save("lchNumber9", "laptop", "token-3", Duration.ofDays(14));
+
+        assertEquals(Optional.of("token-2"), store.find("lchNumber9", "phone"));
+        assertEquals(Optional.of("token-3"), store.find("lchNumber9", "laptop"));
+
+        store.revoke("lchNumber9", "phone");
+        assertTrue(store.find("lchNumber9", "phone").isEmpty());
+        assertEquals(Optional.of("token-3"), store.find("lchNumber9", "laptop"));
+
+        store.revokeAll("lchNumber9");
+        assertTrue(store.find("lchNumber9", "laptop").isEmpty());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 조회되지 않고 정리됨")
+    void expired() {
+        store.save("lchNumber9", "phone", "token-1", Duration.ofMillis(-1));
+
+        assertTrue(store.find("lchNumber9", "phone").isEmpty());
+        store.purgeExpired();
+        assertTrue(store.find("lchNumber9", "phone").isEmpty());
+    }
+
+    @Test
+    @DisplayName("스냅샷에서 만료되지 않은 토큰만 복구")
+    void snapshotAndRestore() {
+        store.save("lchNumber9", "phone", "token-1", Duration.ofDays(14));
+        store.save("lchNumber9", "laptop", "token-2", Duration.ofDays(14));
+        store.save("other", "phone", "expired", Duration.ofMillis(-1));
+        store.snapshot();
+        assertTrue(Files.exists(Path.of(snapshotFile)));
+
+        InMemoryRefreshTokenStore restarted = new InMemoryRefreshTokenStore(snapshotFile, true);
+        restarted.restore();
+
+        assertEquals(Optional.of("token-1"), restarted.find("lchNumber9", "phone"));
+        assertEquals(Optional.of("token-2"), restarted.find("lchNumber9", "laptop"));
+        assertTrue(restarted.find("other", "phone").isEmpty());
+    }
+
+    @Test
+    @DisplayName("스냅샷 파일이 없으면 빈 상태로 시작")
+    void restoreWithoutSnapshot() {
+        store.restore();
+
+        assertTrue(store.find("lchNumber9", "phone").isEmpty());
+    }
+}
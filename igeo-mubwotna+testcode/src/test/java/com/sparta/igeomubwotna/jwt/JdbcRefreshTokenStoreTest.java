@@ -0,0 +1,68 @@
+package com.sparta.igeomubwotna.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// refresh_token 테이블 저장소: 같은 기기 재로그인은 ON DUPLICATE KEY UPDATE로 덮어쓰고, 만료된 행은 조회 / 정리에서 제외
+public class JdbcRefreshTokenStoreTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcRefreshTokenStore store;
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:refresh;MODE=MySQL;DB_CLOSE_DELAY=-1"));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS refresh_token");
+        store = new JdbcRefreshTokenStore(jdbcTemplate);
+        store.createTable();
+    }
+
+    @Test
+    @DisplayName("같은 기기로 다시 로그인하면 행을 추가하지 않고 토큰과 만료 시각을 덮어씀")
+    void upsert() {
+        store.save("lchNumber9", "phone", "token-1", Duration.ofMillis(-1));
+        assertTrue(store.find("lchNumber9", "phone").isEmpty());
+
+        store.save("lchNumber9", "phone", "token-2", Duration.ofDays(14));
+
+        assertEquals(Optional.of("token-2"), store.find("lchNumber9", "phone"));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refresh_token", Integer.class));
+    }
+
+    @Test
+    @DisplayName("해당 기기만 로그아웃하거나 모든 기기를 로그아웃")
+    void revoke() {
+        store.save("lchNumber9", "phone", "token-1", Duration.ofDays(14));
+        store.save("lchNumber9", "laptop", "token-2", Duration.ofDays(14));
+        store.save("other", "phone", "token-3", Duration.ofDays(14));
+
+        store.revoke("lchNumber9", "phone");
+        assertTrue(store.find("lchNumber9", "phone").isEmpty());
+        assertEquals(Optional.of("token-2"), store.find("lchNumber9", "laptop"));
+
+        store.revokeAll("lchNumber9");
+        assertTrue(store.find("lchNumber9", "laptop").isEmpty());
+        assertEquals(Optional.of("token-3"), store.find("other", "phone"));
+    }
+
+    @Test
+    @DisplayName("만료된 행은 정리됨")
+    void purgeExpired() {
+        store.save("lchNumber9", "phone", "expired", Duration.ofMillis(-1));
+        store.save("lchNumber9", "laptop", "token-2", Duration.ofDays(14));
+
+        store.purgeExpired();
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refresh_token", Integer.class));
+        assertEquals(Optional.of("token-2"), store.find("lchNumber9", "laptop"));
+    }
+}
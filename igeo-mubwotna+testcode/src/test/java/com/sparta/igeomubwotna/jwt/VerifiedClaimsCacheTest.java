@@ -0,0 +1,122 @@
+package com.sparta.igeomubwotna.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 토큰 다이제스트를 키로 쓰고, 엔트리가 토큰 exp를 넘겨서 남지 않으며, 읽기 전용 사본을 돌려주는지 확인
+public class VerifiedClaimsCacheTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    // 캐시 시계(ticker)와 exp 비교용 현재 시각을 함께 움직임
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicLong wallClock = new AtomicLong(1_700_000_000_000L);
+
+    private VerifiedClaimsCache cache;
+    private AtomicInteger verifications;
+
+    @BeforeEach
+    void setup() {
+        cache = new VerifiedClaimsCache(1000, new SimpleMeterRegistry(), nanos::get, wallClock::get);
+        verifications = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("토큰 원문이 아니라 SHA-256 다이제스트를 키로 저장하고, 같은 토큰은 다시 검증하지 않음")
+    void keyedByDigest() {
+        Claims claims = claimsExpiringIn(60);
+
+        cache.get(TOKEN, verifier(claims));
+        cache.get(TOKEN, verifier(claims));
+
+        assertEquals(1, verifications.get());
+        assertTrue(cache.asMap().containsKey(VerifiedClaimsCache.digest(TOKEN)));
+        assertFalse(cache.asMap().containsKey(TOKEN));
+        assertEquals(43, VerifiedClaimsCache.digest(TOKEN).length());
+
+        // 한 글자만 달라도 다른 키
+        cache.get(TOKEN + "x", verifier(claims));
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    @DisplayName("엔트리는 토큰의 exp까지만 남음")
+    void neverOutlivesExpiration() {
+        Claims claims = claimsExpiringIn(60);
+        cache.get(TOKEN, verifier(claims));
+
+        advance(59_999);
+        cache.get(TOKEN, verifier(claims));
+        assertEquals(1, verifications.get());
+
+        advance(1);
+        cache.get(TOKEN, verifier(claims));
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    @DisplayName("이미 만료되었거나 exp가 없는 Claims는 캐시에 남지 않음")
+    void expiredOrWithoutExpirationNotRetained() {
+        Claims expired = claimsExpiringIn(-1);
+        cache.get(TOKEN, verifier(expired));
+        cache.get(TOKEN, verifier(expired));
+        assertEquals(2, verifications.get());
+
+        Claims withoutExp = Jwts.claims().setSubject("lchNumber9");
+        cache.get(TOKEN + "x", verifier(withoutExp));
+        cache.get(TOKEN + "x", verifier(withoutExp));
+        assertEquals(4, verifications.get());
+    }
+
+    @Test
+    @DisplayName("캐시된 Claims는 수정할 수 없고, 원본을 바꿔도 영향이 없음")
+    void cachesImmutableCopy() {
+        Claims original = claimsExpiringIn(60);
+        original.put(JwtUtil.USER_PK_CLAIM, 1);
+
+        Claims cached = cache.get(TOKEN, verifier(original));
+        original.setSubject("other");
+
+        assertEquals("lchNumber9", cache.get(TOKEN, verifier(original)).getSubject());
+        assertEquals(1L, cached.get(JwtUtil.USER_PK_CLAIM, Long.class));
+        assertEquals(original.getExpiration(), cached.getExpiration());
+        assertThrows(UnsupportedOperationException.class, () -> cached.put(JwtUtil.USER_PK_CLAIM, 2));
+        assertThrows(UnsupportedOperationException.class, () -> cached.setSubject("other"));
+        assertThrows(UnsupportedOperationException.class, () -> cached.remove(Claims.SUBJECT));
+        assertThrows(UnsupportedOperationException.class, cached::clear);
+    }
+
+    // exp는 초 단위로 저장되므로 현재 시각도 초 단위로 맞춰 둠
+    private Claims claimsExpiringIn(long seconds) {
+        return Jwts.claims()
+                .setSubject("lchNumber9")
+                .setExpiration(new Date(wallClock.get() + TimeUnit.SECONDS.toMillis(seconds)));
+    }
+
+    private Function<String, Claims> verifier(Claims claims) {
+        return token -> {
+            verifications.incrementAndGet();
+            return claims;
+        };
+    }
+
+    private void advance(long millis) {
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+        wallClock.addAndGet(millis);
+    }
+}
@@ -5,6 +5,8 @@ import com.sparta.igeomubwotna.config.SecurityConfig;
 import com.sparta.igeomubwotna.controller.CommentController;
 import com.sparta.igeomubwotna.dto.CommentRequestDto;
 import com.sparta.igeomubwotna.dto.CommentResponseDto;
+import com.sparta.igeomubwotna.dto.CursorPageResponseDto;
+import com.sparta.igeomubwotna.dto.FeedCursor;
 import com.sparta.igeomubwotna.entity.User;
 import com.sparta.igeomubwotna.security.UserDetailsImpl;
 import com.sparta.igeomubwotna.service.CommentService;
@@ -18,6 +20,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -35,6 +38,8 @@ import java.util.Locale;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -164,6 +169,92 @@ public class CommentMvcTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("Comment 조회 - ETag가 같으면 댓글을 읽지 않고 304")
+    void testGetCommentNotModified() throws Exception {
+        // given
+        mockUserSetup();
+        Long recipeId = 1L;
+        String eTag = "\"0123456789abcdef0123456789abcdef\"";
+        given(commentService.getCommentETag(recipeId)).willReturn(eTag);
+        given(commentService.getComment(recipeId)).willReturn(List.of());
+
+        // when - then
+        mvc.perform(get("/api/recipe/{recipeId}/comment", recipeId)
+                        .principal(mockPrincipal)
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andDo(print());
+
+        mvc.perform(get("/api/recipe/{recipeId}/comment", recipeId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .principal(mockPrincipal)
+                )
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""))
+                .andDo(print());
+
+        verify(commentService, times(1)).getComment(recipeId);
+    }
+
+    @Test
+    @DisplayName("Comment 페이지 조회")
+    void testGetCommentPage() throws Exception {
+        // given
+        User user = mockUserSetup();
+        Long recipeId = 1L;
+        CommentResponseDto commentResponseDto = new CommentResponseDto(1L, "안녕", user.getUserId(), LocalDateTime.now(), 0L);
+        CursorPageResponseDto<CommentResponseDto> page = new CursorPageResponseDto<>(List.of(commentResponseDto), "next");
+
+        given(commentService.getCommentPage(eq(recipeId), eq(20), isNull())).willReturn(page);
+
+        // when - then
+        mvc.perform(get("/api/recipe/{recipeId}/comment/page", recipeId)
+                        .param("size", "20")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .principal(mockPrincipal)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.content[0].userId").value(user.getUserId()))
+                .andExpect(jsonPath("$.nextCursor").value("next"))  // 다음 페이지 요청에 사용할 커서
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("Comment 페이지 조회 - 다른 레시피의 커서나 변조된 커서는 400")
+    void testGetCommentPageBadCursor() throws Exception {
+        // given
+        mockUserSetup();
+        String otherRecipeCursor = new FeedCursor("COMMENT:1", LocalDateTime.of(2024, 6, 1, 12, 0), 10L).encode();
+        // 서비스와 같은 규칙으로 커서를 확인 (요청한 레시피의 커서가 아니면 IllegalArgumentException)
+        given(commentService.getCommentPage(anyLong(), any(), anyString())).willAnswer(invocation ->
+                FeedCursor.decode(invocation.getArgument(2), "COMMENT:" + invocation.getArgument(0)));
+
+        // when - then
+        mvc.perform(get("/api/recipe/{recipeId}/comment/page", 2L)
+                        .param("cursor", otherRecipeCursor)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .principal(mockPrincipal)
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.statusCode").value(HttpStatus.BAD_REQUEST.value()))
+                .andExpect(jsonPath("$.message").value("잘못된 커서입니다."))
+                .andDo(print());
+
+        mvc.perform(get("/api/recipe/{recipeId}/comment/page", 1L)
+                        .param("cursor", "!!!not-a-cursor!!!")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .principal(mockPrincipal)
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("잘못된 커서입니다."))
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("Comment 수정")
     void test4() throws Exception {
@@ -0,0 +1,75 @@
+package com.sparta.igeomubwotna.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new InvertedIndex(new KoreanBigramTokenizer());
+        index.index(1L, 1L, "김치찌개 끓이는 법", "돼지고기와 묵은지를 넣고 끓입니다.");
+        index.index(2L, 1L, "된장찌개", "된장을 풀고 두부와 애호박을 넣습니다. 김치는 곁들여 먹어요.");
+        index.index(3L, 1L, "Spicy Kimchi Fried Rice", "김치볶음밥: 김치를 잘게 썰어 밥과 함께 볶습니다.");
+    }
+
+    @Test
+    @DisplayName("한글은 두 글자씩, 영문 / 숫자는 단어 단위로 나눔")
+    void tokenize() {
+        KoreanBigramTokenizer tokenizer = new KoreanBigramTokenizer();
+
+        assertEquals(List.of("김치", "치찌", "찌개"), tokenizer.tokenize("김치찌개"));
+        assertEquals(List.of("밥", "spicy", "10", "분"), tokenizer.tokenize("밥 SPICY 10분"));
+        // 색인할 때는 글자 하나씩도, 검색어는 세 글자 이상이면 마지막 bigram을 선택 term으로
+        assertEquals(List.of("된장", "장국", "된", "장", "국"), tokenizer.tokenizeDocument("된장국"));
+        assertEquals(new KoreanBigramTokenizer.QueryTerms(List.of("김치"), List.of("치를")), tokenizer.tokenizeQuery("김치를"));
+        assertEquals(new KoreanBigramTokenizer.QueryTerms(List.of("국"), List.of()), tokenizer.tokenizeQuery("국"));
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어와 조사가 붙은 검색어도 검색됨")
+    void searchShortAndTrailingTerms() {
+        index.index(4L, 1L, "된장국", "국물이 시원합니다.");
+
+        assertEquals(List.of(4L), index.search("국", 10));
+        // 조사까지 들어 있는 레시피(김치를)가 먼저
+        assertEquals(List.of(3L, 1L, 2L), index.search("김치를", 10));
+        assertEquals(List.of(1L), index.search("김치찌개를", 10));
+        assertEquals(List.of(4L), index.search("된장국을", 10));
+    }
+
+    @Test
+    @DisplayName("검색어의 term이 모두 들어 있는 레시피만, 제목에 나온 레시피가 먼저")
+    void search() {
+        assertEquals(List.of(1L, 3L, 2L), index.search("김치", 10));
+        assertEquals(List.of(1L), index.search("김치찌개", 10));
+        assertEquals(List.of(3L), index.search("kimchi rice", 10));
+        assertEquals(List.of(), index.search("카레", 10));
+        assertEquals(List.of(1L, 3L), index.search("김치", 2));
+    }
+
+    @Test
+    @DisplayName("수정 / 삭제가 바로 검색 결과에 반영되고, 같은 버전은 다시 색인하지 않음")
+    void update() {
+        assertFalse(index.index(1L, 1L, "김치찌개 끓이는 법", "돼지고기와 묵은지를 넣고 끓입니다."));
+        assertTrue(index.index(1L, 2L, "부대찌개", "햄과 소시지를 넣습니다."));
+        assertEquals(List.of(3L, 2L), index.search("김치", 10));
+        assertEquals(List.of(1L), index.search("부대찌개", 10));
+
+        index.remove(3L);
+        assertEquals(List.of(2L), index.search("김치", 10));
+        assertEquals(2, index.size());
+        assertEquals(2, index.deletedDocs());
+        assertArrayEquals(new long[]{1L, 2L}, index.recipeIds());
+    }
+}
@@ -0,0 +1,61 @@
+package com.sparta.igeomubwotna.search;
+
+import com.sparta.igeomubwotna.dto.RecipeTitleSuggestionDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TitleDictionaryTest {
+
+    private final TitleDictionary dictionary = TitleDictionary.build(List.of(
+            new TitleDictionary.Entry(1L, "김치찌개", 10L),
+            new TitleDictionary.Entry(2L, "김치볶음밥", 30L),
+            new TitleDictionary.Entry(3L, "김밥", 20L),
+            new TitleDictionary.Entry(4L, "된장찌개", 50L),
+            new TitleDictionary.Entry(5L, "Kimchi Pancake", 5L),
+            new TitleDictionary.Entry(6L, "김치전", 30L)));
+
+    @Test
+    @DisplayName("접두어로 시작하는 제목을 좋아요 많은 순으로, 같으면 최근 레시피 먼저")
+    void top() {
+        assertEquals(List.of(6L, 2L, 3L, 1L), ids(dictionary.top("김", 10, id -> false)));
+        assertEquals(List.of(6L, 2L, 1L), ids(dictionary.top("김치", 10, id -> false)));
+        assertEquals(List.of(6L, 2L), ids(dictionary.top("김치", 2, id -> false)));
+        assertEquals(List.of(5L), ids(dictionary.top("kim", 10, id -> false)));
+        assertEquals(List.of(), ids(dictionary.top("카레", 10, id -> false)));
+        assertEquals(List.of(2L, 1L), ids(dictionary.top("김치", 10, id -> id == 6L)));
+    }
+
+    @Test
+    @DisplayName("무작위 제목에서도 전체를 정렬한 결과와 같음")
+    void matchesBruteForce() {
+        Random random = new Random(42);
+        List<TitleDictionary.Entry> entries = new ArrayList<>();
+        for (long id = 1; id <= 5_000; id++) {
+            String title = "" + (char) ('가' + random.nextInt(5)) + (char) ('가' + random.nextInt(5)) + id;
+            entries.add(new TitleDictionary.Entry(id, title, random.nextInt(100)));
+        }
+        TitleDictionary random5000 = TitleDictionary.build(entries);
+
+        for (String prefix : List.of("가", "나", "가각", "갂갃", "가가1")) {
+            List<Long> expected = entries.stream()
+                    .filter(entry -> entry.title().startsWith(prefix))
+                    .sorted(Comparator.comparingLong(TitleDictionary.Entry::likes)
+                            .thenComparingLong(TitleDictionary.Entry::id).reversed())
+                    .limit(10)
+                    .map(TitleDictionary.Entry::id)
+                    .toList();
+            assertEquals(expected, ids(random5000.top(prefix, 10, id -> false)));
+        }
+    }
+
+    private List<Long> ids(List<RecipeTitleSuggestionDto> suggestions) {
+        return suggestions.stream().map(RecipeTitleSuggestionDto::getId).toList();
+    }
+}
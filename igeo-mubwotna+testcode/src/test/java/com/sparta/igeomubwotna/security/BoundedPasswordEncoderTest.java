@@ -0,0 +1,139 @@
+package com.sparta.igeomubwotna.security;
+
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.filter.JwtAuthenticationFilter;
+import com.sparta.igeomubwotna.jwt.JwtUtil;
+import com.sparta.igeomubwotna.jwt.RefreshTokenStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+// 해시 스레드와 대기열이 모두 차면 기다리지 않고 503으로 거절하고, 로그인 필터가 이를 503 응답으로 돌려주는지 확인
+public class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 공용 ForkJoinPool은 코어가 적으면 스레드가 하나뿐이라 호출 스레드를 따로 둠
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final List<CompletableFuture<Boolean>> running = new ArrayList<>();
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setup() {
+        // release 전까지 끝나지 않는 해시 (스레드 1개, 대기열 1칸)
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return encodedPassword.equals("hash:" + rawPassword);
+            }
+        };
+        passwordEncoder = new BoundedPasswordEncoder(blocking, 1, 1, meterRegistry);
+    }
+
+    @AfterEach
+    void clear() {
+        release.countDown();
+        running.forEach(CompletableFuture::join);
+        callers.shutdown();
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업과 대기열이 가득 차면 바로 503으로 거절")
+    void rejectWhenQueueFull() throws Exception {
+        saturate();
+
+        long start = System.nanoTime();
+        PasswordHashingRejectedException e = assertThrows(PasswordHashingRejectedException.class,
+                () -> passwordEncoder.matches("Dlckdgud11!", "hash:Dlckdgud11!"));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, e.getStatusCode());
+        // 대기하지 않고 거절
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+
+        // 자리가 나면 다시 처리
+        release.countDown();
+        assertTrue(running.get(0).get(5, TimeUnit.SECONDS));
+        assertTrue(passwordEncoder.matches("Dlckdgud11!", "hash:Dlckdgud11!"));
+    }
+
+    @Test
+    @DisplayName("로그인 필터는 InternalAuthenticationServiceException으로 감싼 거절을 풀어서 503 응답")
+    void signinRespondsServiceUnavailable() throws Exception {
+        User user = new User("lchNumber9", "hash:Dlckdgud11!", "이창형", "shlee509@nate.com", "안녕");
+        user.setId(1L);
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(userId -> new UserDetailsImpl(user));
+        provider.setPasswordEncoder(passwordEncoder);
+
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(mock(JwtUtil.class), mock(RefreshTokenStore.class));
+        filter.setAuthenticationManager(new ProviderManager(provider));
+        filter.setFilterProcessesUrl("/api/user/signin");
+
+        saturate();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/user/signin");
+        request.setServletPath("/api/user/signin");
+        request.setContent("{\"userId\":\"lchNumber9\",\"password\":\"Dlckdgud11!\"}".getBytes(StandardCharsets.UTF_8));
+        request.setContentType("application/json");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+        assertEquals("요청이 많아 잠시 후 다시 시도해주세요.", response.getContentAsString());
+    }
+
+    // 스레드 1개가 해시 중이고 대기열 1칸도 찬 상태로 만듦
+    private void saturate() throws InterruptedException {
+        running.add(CompletableFuture.supplyAsync(() -> passwordEncoder.matches("Dlckdgud11!", "hash:Dlckdgud11!"), callers));
+        awaitGauge("password.hash.active", 1);
+        running.add(CompletableFuture.supplyAsync(() -> passwordEncoder.matches("Dlckdgud11!", "hash:Dlckdgud11!"), callers));
+        awaitGauge("password.hash.queue.size", 1);
+    }
+
+    private void awaitGauge(String name, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(name).gauge().value() != expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError(name + " did not reach " + expected);
+            }
+            Thread.sleep(1);
+        }
+    }
+}
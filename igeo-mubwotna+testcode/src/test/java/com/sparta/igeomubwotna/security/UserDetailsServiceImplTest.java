@@ -0,0 +1,97 @@
+package com.sparta.igeomubwotna.security;
+
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.entity.UserStatusEnum;
+import com.sparta.igeomubwotna.repository.UserRepository;
+import com.sparta.igeomubwotna.repository.UserRepository.CredentialsView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 로그인 시 캐시된 스냅샷을 DB의 현재 비밀번호 해시 / 상태와 비교해서, 다른 서버의 변경을 놓치지 않는지 확인
+@ExtendWith(MockitoExtension.class)
+public class UserDetailsServiceImplTest {
+    @Mock
+    UserRepository userRepository;
+
+    private UserDetailsServiceImpl userDetailsService;
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        userDetailsService = new UserDetailsServiceImpl(userRepository, new UserPrincipalCache(1000, 600, new SimpleMeterRegistry()));
+        user = new User("lchNumber9", "old-hash", "이창형", "shlee509@nate.com", "안녕");
+        user.setId(1L);
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 엔티티만 한 번 읽고, 캐시된 스냅샷이 최신이면 엔티티를 다시 읽지 않음")
+    void cachedSnapshotUpToDate() {
+        given(userRepository.findByUserId(user.getUserId())).willReturn(Optional.of(user));
+        given(userRepository.findCredentialsByUserId(user.getUserId())).willReturn(Optional.of(credentials("old-hash", UserStatusEnum.ACTIVE)));
+
+        userDetailsService.loadUserByUsername(user.getUserId());
+        UserDetailsImpl userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(user.getUserId());
+
+        assertEquals("old-hash", userDetails.getPassword());
+        verify(userRepository, times(1)).findByUserId(user.getUserId());
+        verify(userRepository, times(1)).findCredentialsByUserId(user.getUserId());
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 비밀번호를 바꾸거나 탈퇴했으면 캐시를 버리고 다시 읽음")
+    void staleSnapshotReloaded() {
+        given(userRepository.findByUserId(user.getUserId())).willReturn(Optional.of(user));
+        userDetailsService.loadUserByUsername(user.getUserId());
+
+        // 다른 서버에서 비밀번호 변경 후 탈퇴 (이 서버의 캐시에는 이벤트가 오지 않음)
+        user.updatePassword("new-hash");
+        user.withdraw();
+        given(userRepository.findCredentialsByUserId(user.getUserId())).willReturn(Optional.of(credentials("new-hash", UserStatusEnum.WITHDRAWN)));
+
+        UserDetailsImpl userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(user.getUserId());
+
+        assertEquals("new-hash", userDetails.getPassword());
+        assertTrue(userDetails.getUser().isWithdrawn());
+        verify(userRepository, times(2)).findByUserId(user.getUserId());
+    }
+
+    @Test
+    @DisplayName("DB에서 사라진 사용자는 캐시에 있어도 로그인할 수 없음")
+    void deletedUser() {
+        given(userRepository.findByUserId(user.getUserId())).willReturn(Optional.of(user));
+        userDetailsService.loadUserByUsername(user.getUserId());
+
+        given(userRepository.findCredentialsByUserId(user.getUserId())).willReturn(Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername(user.getUserId()));
+    }
+
+    private CredentialsView credentials(String password, UserStatusEnum status) {
+        return new CredentialsView() {
+            @Override
+            public String getPassword() {
+                return password;
+            }
+
+            @Override
+            public UserStatusEnum getStatus() {
+                return status;
+            }
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package com.sparta.igeomubwotna.service;
+
+import com.sparta.igeomubwotna.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class AuthorResolverTest {
+    @Mock
+    UserRepository userRepository;
+
+    @Test
+    @DisplayName("등록된 작성자는 IN 쿼리 한 번으로 조회")
+    void singleQuery() {
+        given(userRepository.findUserIdsByIdIn(anyCollection()))
+                .willReturn(List.of(view(1L, "writer1"), view(2L, "writer2")));
+        AuthorResolver authorResolver = new AuthorResolver(userRepository);
+
+        // 레시피 10개에 작성자 2명
+        for (long i = 0; i < 10; i++) {
+            authorResolver.load(i % 2 + 1);
+        }
+        for (long i = 0; i < 10; i++) {
+            assertEquals("writer" + (i % 2 + 1), authorResolver.getUserId(i % 2 + 1));
+        }
+
+        verify(userRepository, times(1)).findUserIdsByIdIn(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("조회되지 않은 작성자는 null, 다시 조회하지 않음")
+    void missingAuthor() {
+        given(userRepository.findUserIdsByIdIn(anyCollection())).willReturn(List.of());
+        AuthorResolver authorResolver = new AuthorResolver(userRepository);
+
+        assertNull(authorResolver.getUserId(3L));
+        assertNull(authorResolver.getUserId(3L));
+
+        verify(userRepository, times(1)).findUserIdsByIdIn(anyCollection());
+    }
+
+    private UserRepository.UserIdView view(Long id, String userId) {
+        return new UserRepository.UserIdView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getUserId() {
+                return userId;
+            }
+        };
+    }
+}
@@ -0,0 +1,142 @@
+package com.sparta.igeomubwotna.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExportServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ExportService exportService;
+
+    @BeforeEach
+    void setup() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:export;MODE=MySQL;DB_CLOSE_DELAY=-1"));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS recipe");
+        jdbcTemplate.execute("CREATE TABLE recipe (id BIGINT PRIMARY KEY, user_id BIGINT, title VARCHAR(255), " +
+                "content VARCHAR(255), recipe_likes BIGINT, created_at TIMESTAMP, modified_at TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO recipe VALUES (1, 7, '김치찌개', '김치를 \"볶는다\"\n끓인다', 3, " +
+                "TIMESTAMP '2024-06-01 12:00:00', TIMESTAMP '2024-06-02 08:30:15')");
+        jdbcTemplate.update("INSERT INTO recipe VALUES (2, 8, '라면', '물을 끓인다', NULL, " +
+                "TIMESTAMP '2024-06-03 00:00:00', NULL)");
+
+        exportService = new ExportService(jdbcTemplate, objectMapper, 1, 1, 60_000L);
+    }
+
+    @Test
+    @DisplayName("행마다 한 줄씩 camelCase 필드로 내보냄")
+    void write() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.write(ExportService.Target.RECIPES, out);
+
+        assertEquals(2, rows);
+        List<JsonNode> lines = readLines(out.toByteArray());
+        assertEquals(2, lines.size());
+
+        JsonNode first = lines.get(0);
+        assertEquals(1L, first.get("id").asLong());
+        assertEquals(7L, first.get("userPk").asLong());
+        assertEquals("김치를 \"볶는다\"\n끓인다", first.get("content").asText());
+        assertEquals(3L, first.get("recipeLikes").asLong());
+        assertEquals("2024-06-01T12:00:00", first.get("createdAt").asText());
+        assertEquals("2024-06-02T08:30:15", first.get("modifiedAt").asText());
+
+        JsonNode second = lines.get(1);
+        assertTrue(second.get("recipeLikes").isNull());
+        assertTrue(second.get("modifiedAt").isNull());
+    }
+
+    @Test
+    @DisplayName("gzip 요청은 압축해서 보내고, 내보내는 중에는 다른 내보내기를 받지 않음")
+    void exportGzip() throws IOException {
+        ResponseEntity response = exportService.export("recipes", true, new MockHttpServletRequest());
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+
+        // 응답 본문을 쓰기 전까지는 진행 중
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exportService.export("comments", false, new MockHttpServletRequest()).getStatusCode());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingResponseBody) response.getBody()).writeTo(out);
+        byte[] ndjson = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes();
+        assertEquals(2, readLines(ndjson).size());
+
+        assertEquals(HttpStatus.BAD_REQUEST, exportService.export("users", false, new MockHttpServletRequest()).getStatusCode());
+        assertEquals(HttpStatus.OK, exportService.export("recipes", false, new MockHttpServletRequest()).getStatusCode());
+    }
+
+    @Test
+    @DisplayName("본문을 쓰기 전에 비동기 요청이 끝나도 허용 수를 반환하고, 본문을 쓴 뒤 다시 끝나도 두 번 반환하지 않음")
+    void releaseOnAsyncCompletion() throws IOException {
+        MockHttpServletRequest timedOut = new MockHttpServletRequest();
+        assertEquals(HttpStatus.OK, exportService.export("recipes", false, timedOut).getStatusCode());
+        completeAsync(timedOut);
+
+        MockHttpServletRequest written = new MockHttpServletRequest();
+        ResponseEntity response = exportService.export("recipes", false, written);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        ((StreamingResponseBody) response.getBody()).writeTo(new ByteArrayOutputStream());
+        completeAsync(written);
+
+        // 허용 수 1개가 그대로 남아 있음
+        assertEquals(HttpStatus.OK, exportService.export("recipes", false, new MockHttpServletRequest()).getStatusCode());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exportService.export("recipes", false, new MockHttpServletRequest()).getStatusCode());
+    }
+
+    @Test
+    @DisplayName("비동기 응답 시간 제한은 내보내기 요청에만 timeout-ms로 설정")
+    void timeoutPerRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        exportService.export("recipes", false, request);
+
+        StandardServletAsyncWebRequest asyncWebRequest = new StandardServletAsyncWebRequest(request, new MockHttpServletResponse());
+        WebAsyncUtils.getAsyncManager(request).getCallableInterceptor(ExportService.class.getName())
+                .beforeConcurrentHandling(asyncWebRequest, null);
+        asyncWebRequest.startAsync();
+
+        assertEquals(60_000L, request.getAsyncContext().getTimeout());
+    }
+
+    // 비동기 요청이 (시간 초과 / 오류 / 정상 종료로) 끝났을 때 호출되는 afterCompletion
+    private void completeAsync(MockHttpServletRequest request) {
+        try {
+            WebAsyncUtils.getAsyncManager(request).getCallableInterceptor(ExportService.class.getName())
+                    .afterCompletion(new ServletWebRequest(request), null);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<JsonNode> readLines(byte[] ndjson) throws IOException {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : new String(ndjson, StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+}
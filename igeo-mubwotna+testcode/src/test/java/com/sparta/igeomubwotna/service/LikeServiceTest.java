@@ -0,0 +1,100 @@
+package com.sparta.igeomubwotna.service;
+
+import com.sparta.igeomubwotna.counter.LikeCounter;
+import com.sparta.igeomubwotna.entity.RecipeLikes;
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.repository.CommentLikesRepository;
+import com.sparta.igeomubwotna.repository.RecipeLikesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 좋아요 수는 실제로 추가 / 삭제된 행이 있을 때만 바뀌는지 확인
+@ExtendWith(MockitoExtension.class)
+public class LikeServiceTest {
+    @Mock
+    RecipeLikesRepository recipeLikesRepository;
+    @Mock
+    CommentLikesRepository commentLikesRepository;
+    @Mock
+    LikeCounter likeCounter;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    LikeService likeService;
+
+    private User liker;
+    private User writer;
+
+    @BeforeEach
+    void setup() {
+        liker = new User("lchNumber9", "Dlckdgud11!", "이창형", "shlee509@nate.com", "안녕");
+        liker.setId(1L);
+        writer = new User("writer1234", "Dlckdgud11!", "작성자", "writer@nate.com", "안녕");
+        writer.setId(2L);
+    }
+
+    @Test
+    @DisplayName("좋아요가 추가되면 좋아요 수 +1")
+    void addRecipeLike() {
+        given(recipeLikesRepository.findRecipeOwnerId(10L)).willReturn(Optional.of(writer.getId()));
+        given(recipeLikesRepository.insertIfAbsent(1L, 10L)).willReturn(true);
+
+        assertEquals("좋아요 성공!", likeService.addRecipeLike(10L, liker).getBody());
+
+        verify(likeCounter).addRecipeLike(10L, 1L);
+    }
+
+    @Test
+    @DisplayName("이미 누른 좋아요를 다시 요청하면 좋아요 수는 그대로")
+    void addRecipeLikeTwice() {
+        given(recipeLikesRepository.findRecipeOwnerId(10L)).willReturn(Optional.of(writer.getId()));
+        given(recipeLikesRepository.insertIfAbsent(1L, 10L)).willReturn(false);
+
+        assertEquals("이미 좋아요를 누른 레시피입니다.", likeService.addRecipeLike(10L, liker).getBody());
+
+        verify(likeCounter, never()).addRecipeLike(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("본인 레시피나 없는 레시피에는 좋아요를 추가하지 않음")
+    void addRecipeLikeRejected() {
+        given(recipeLikesRepository.findRecipeOwnerId(10L)).willReturn(Optional.of(liker.getId()));
+        given(recipeLikesRepository.findRecipeOwnerId(11L)).willReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> likeService.addRecipeLike(10L, liker));
+        assertThrows(IllegalArgumentException.class, () -> likeService.addRecipeLike(11L, liker));
+
+        verify(recipeLikesRepository, never()).insertIfAbsent(anyLong(), anyLong());
+        verify(likeCounter, never()).addRecipeLike(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 취소했으면 좋아요 수는 그대로")
+    void removeRecipeLikeTwice() {
+        RecipeLikes recipeLikes = mock(RecipeLikes.class);
+        given(recipeLikes.getUser()).willReturn(liker);
+        given(recipeLikesRepository.findById(5L)).willReturn(Optional.of(recipeLikes));
+        given(recipeLikesRepository.deleteByIdAndUserId(5L, 1L)).willReturn(0);
+
+        likeService.removeRecipeLike(5L, liker);
+
+        verify(likeCounter, never()).addRecipeLike(anyLong(), anyLong());
+    }
+}
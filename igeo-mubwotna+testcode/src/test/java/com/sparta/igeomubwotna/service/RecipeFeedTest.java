@@ -0,0 +1,187 @@
+package com.sparta.igeomubwotna.service;
+
+import com.sparta.igeomubwotna.cache.HotRecipeCache;
+import com.sparta.igeomubwotna.cache.LikedRecipeIndex;
+import com.sparta.igeomubwotna.cache.LongIdSet;
+import com.sparta.igeomubwotna.cache.RecipeResponseBytesCache;
+import com.sparta.igeomubwotna.cache.TrendingRecipeBoard;
+import com.sparta.igeomubwotna.counter.LikeCounter;
+import com.sparta.igeomubwotna.dto.CursorPageResponseDto;
+import com.sparta.igeomubwotna.dto.FeedCursor;
+import com.sparta.igeomubwotna.dto.RecipeSummaryDto;
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.repository.RecipeRepository;
+import com.sparta.igeomubwotna.search.RecipeSearchIndex;
+import com.sparta.igeomubwotna.search.TitleAutocomplete;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+// 커서 목록: nextCursor로 이어서 조회하면 마지막 행의 (정렬 값, id) 다음부터 조회하고, 잘못된 커서는 400
+@ExtendWith(MockitoExtension.class)
+public class RecipeFeedTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 6, 1, 12, 0, 0);
+    private static final PageRequest LIMIT = PageRequest.of(0, 11);
+
+    @Mock
+    RecipeRepository recipeRepository;
+    @Mock
+    AuthorResolver authorResolver;
+    @Mock
+    HotRecipeCache hotRecipeCache;
+    @Mock
+    RecipeResponseBytesCache recipeResponseBytesCache;
+    @Mock
+    LikeCounter likeCounter;
+    @Mock
+    LikedRecipeIndex likedRecipeIndex;
+    @Mock
+    RecipeSearchIndex recipeSearchIndex;
+    @Mock
+    TitleAutocomplete titleAutocomplete;
+    @Mock
+    TrendingRecipeBoard trendingRecipeBoard;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    RecipeService recipeService;
+
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        user = new User("lchNumber9", "Dlckdgud11!", "이창형", "shlee509@nate.com", "안녕");
+        user.setId(1L);
+    }
+
+    @Test
+    @DisplayName("최신순: nextCursor로 마지막 행의 (createdAt, id) 다음부터 조회")
+    void newestRoundTrip() {
+        List<RecipeSummaryDto> firstPage = summaries(11);
+        given(recipeRepository.findFeedOrderByCreatedAt(LIMIT)).willReturn(firstPage);
+        given(likedRecipeIndex.get(user.getId())).willReturn(LongIdSet.EMPTY);
+
+        String nextCursor = page(recipeService.getRecipeFeed("createdAt", null, user)).getNextCursor();
+        assertNotNull(nextCursor);
+
+        RecipeSummaryDto last = firstPage.get(9);
+        given(recipeRepository.findFeedOrderByCreatedAtAfter(last.getCreatedAt(), last.getId(), LIMIT)).willReturn(summaries(3));
+
+        CursorPageResponseDto<?> secondPage = page(recipeService.getRecipeFeed("createdAt", nextCursor, user));
+
+        assertEquals(3, secondPage.getContent().size());
+        assertFalse(secondPage.isHasNext());
+        verify(recipeRepository).findFeedOrderByCreatedAtAfter(last.getCreatedAt(), last.getId(), LIMIT);
+    }
+
+    @Test
+    @DisplayName("좋아요순: nextCursor로 마지막 행의 (recipeLikes, id) 다음부터 조회")
+    void mostLikedRoundTrip() {
+        List<RecipeSummaryDto> firstPage = summaries(11);
+        given(recipeRepository.findFeedOrderByRecipeLikes(LIMIT)).willReturn(firstPage);
+        given(likedRecipeIndex.get(user.getId())).willReturn(LongIdSet.EMPTY);
+
+        String nextCursor = page(recipeService.getRecipeFeed("recipeLikes", null, user)).getNextCursor();
+
+        RecipeSummaryDto last = firstPage.get(9);
+        given(recipeRepository.findFeedOrderByRecipeLikesAfter(last.getRecipeLikes(), last.getId(), LIMIT)).willReturn(List.of());
+
+        ResponseEntity response = recipeService.getRecipeFeed("recipeLikes", nextCursor, user);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(recipeRepository).findFeedOrderByRecipeLikesAfter(last.getRecipeLikes(), last.getId(), LIMIT);
+    }
+
+    @Test
+    @DisplayName("변조되었거나 다른 정렬 기준의 커서는 조회하지 않고 400")
+    void badCursor() {
+        String mostLikedCursor = new FeedCursor("MOST_LIKED", 5L, 10L).encode();
+        String badDateCursor = new FeedCursor("NEWEST", "not-a-date", 10L).encode();
+        String badLikesCursor = new FeedCursor("MOST_LIKED", "many", 10L).encode();
+        String badIdCursor = new FeedCursor("NEWEST", BASE, null).encode();
+
+        assertBadRequest(recipeService.getRecipeFeed("createdAt", "!!!not-base64!!!", user));
+        assertBadRequest(recipeService.getRecipeFeed("createdAt", "bm90LWEtY3Vyc29y", user));
+        assertBadRequest(recipeService.getRecipeFeed("createdAt", mostLikedCursor, user));
+        assertBadRequest(recipeService.getRecipeFeed("createdAt", badDateCursor, user));
+        assertBadRequest(recipeService.getRecipeFeed("modifiedAt", badDateCursor, user));
+        assertBadRequest(recipeService.getRecipeFeed("recipeLikes", badLikesCursor, user));
+        assertBadRequest(recipeService.getRecipeFeed("createdAt", badIdCursor, user));
+
+        verifyNoInteractions(recipeRepository);
+    }
+
+    @Test
+    @DisplayName("기간별 목록도 잘못된 커서나 날짜는 조회하지 않고 400")
+    void badDateFeedCursor() {
+        String mostLikedCursor = new FeedCursor("MOST_LIKED", 5L, 10L).encode();
+        String badDateCursor = new FeedCursor("NEWEST", "not-a-date", 10L).encode();
+
+        assertBadRequest(recipeService.getDateRecipeFeed("20240601", "20240630", "!!!not-base64!!!", user));
+        assertBadRequest(recipeService.getDateRecipeFeed("20240601", "20240630", mostLikedCursor, user));
+        assertBadRequest(recipeService.getDateRecipeFeed("20240601", "20240630", badDateCursor, user));
+        assertBadRequest(recipeService.getDateRecipeFeed("2024-06-01", "20240630", null, user));
+
+        verifyNoInteractions(recipeRepository);
+    }
+
+    @Test
+    @DisplayName("기간별 목록: nextCursor로 같은 기간의 다음 페이지 조회")
+    void dateFeedRoundTrip() {
+        LocalDateTime start = LocalDateTime.of(2024, 6, 1, 0, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 6, 30, 23, 59, 59);
+        List<RecipeSummaryDto> firstPage = summaries(11);
+        given(recipeRepository.findDateFeed(start, end, LIMIT)).willReturn(firstPage);
+        given(likedRecipeIndex.get(user.getId())).willReturn(LongIdSet.EMPTY);
+
+        String nextCursor = page(recipeService.getDateRecipeFeed("20240601", "20240630", null, user)).getNextCursor();
+
+        RecipeSummaryDto last = firstPage.get(9);
+        given(recipeRepository.findDateFeedAfter(start, end, last.getCreatedAt(), last.getId(), LIMIT)).willReturn(List.of());
+
+        recipeService.getDateRecipeFeed("20240601", "20240630", nextCursor, user);
+
+        verify(recipeRepository).findDateFeedAfter(start, end, last.getCreatedAt(), last.getId(), LIMIT);
+    }
+
+    // 최신순 / 좋아요순으로 정렬된 것처럼 id가 큰 것부터 (createdAt, recipeLikes도 함께 감소)
+    private List<RecipeSummaryDto> summaries(int count) {
+        List<RecipeSummaryDto> summaries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long id = 100L - i;
+            summaries.add(new RecipeSummaryDto(id, "레시피" + id, 2L, 50L - i, BASE.minusMinutes(i), BASE.minusMinutes(i)));
+        }
+        return summaries;
+    }
+
+    private CursorPageResponseDto<?> page(ResponseEntity response) {
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody() instanceof CursorPageResponseDto<?>);
+        return (CursorPageResponseDto<?>) response.getBody();
+    }
+
+    private void assertBadRequest(ResponseEntity response) {
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+}
@@ -0,0 +1,148 @@
+package com.sparta.igeomubwotna.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.igeomubwotna.dto.RecipeImportResultDto;
+import com.sparta.igeomubwotna.dto.RecipeImportResultDto.LineResult;
+import com.sparta.igeomubwotna.entity.Recipe;
+import com.sparta.igeomubwotna.entity.User;
+import com.sparta.igeomubwotna.event.RecipesImportedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 줄마다 검증 / 저장 결과가 줄 번호와 함께 반환되고, chunk마다 flush + clear 되는지 확인
+public class RecipeImportServiceTest {
+
+    private EntityManager entityManager;
+    private ApplicationEventPublisher eventPublisher;
+    private RecipeImportService recipeImportService;
+    private User user;
+
+    // persist된 레시피 (flush 시 실패시킬 레시피를 고르기 위해 보관)
+    private final List<Recipe> persisted = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        entityManager = mock(EntityManager.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        recipeImportService = new RecipeImportService(entityManager, mock(PlatformTransactionManager.class),
+                new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher,
+                new SimpleMeterRegistry(), 2, 100, 64);
+
+        user = new User("lchNumber9", "Dlckdgud11!", "이창형", "shlee509@nate.com", "안녕");
+        user.setId(1L);
+        given(entityManager.getReference(eq(User.class), anyLong())).willReturn(user);
+
+        // persist 시 id_sequence에서 받은 것처럼 id 부여
+        AtomicLong sequence = new AtomicLong(100);
+        doAnswer(invocation -> {
+            Recipe recipe = invocation.getArgument(0);
+            ReflectionTestUtils.setField(recipe, "id", sequence.incrementAndGet());
+            persisted.add(recipe);
+            return null;
+        }).when(entityManager).persist(any(Recipe.class));
+    }
+
+    @Test
+    @DisplayName("잘못된 줄은 사유와 함께 실패 처리하고 나머지는 chunk 단위로 저장")
+    void importRecipes() throws IOException {
+        String body = """
+                {"title": "김치찌개", "content": "김치를 볶는다"}
+                {"title": "된장찌개"
+
+                {"title": "", "content": "제목 없음"}
+                {"title": "계란말이", "content": "계란을 만다"}
+                {"title": "라면", "content": "물을 끓인다"}
+                """;
+
+        RecipeImportResultDto result = importBody(body);
+
+        assertEquals(5, result.getTotal());
+        assertEquals(3, result.getImported());
+        assertEquals(2, result.getFailed());
+        List<LineResult> results = result.getResults();
+        assertEquals(List.of(1, 2, 4, 5, 6), results.stream().map(LineResult::getLine).toList());
+        assertEquals(101L, results.get(0).getRecipeId());
+        assertEquals("JSON 형식이 올바르지 않습니다.", results.get(1).getError());
+        assertTrue(results.get(2).getError().startsWith("title 필드 : "));
+        assertEquals(102L, results.get(3).getRecipeId());
+        assertEquals(103L, results.get(4).getRecipeId());
+
+        // 2개 chunk + 남은 1개
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(eventPublisher).publishEvent(any(RecipesImportedEvent.class));
+    }
+
+    @Test
+    @DisplayName("chunk 저장이 실패하면 한 줄씩 다시 저장해서 실패한 줄만 골라냄")
+    void fallbackToSingleLine() throws IOException {
+        // 제목이 "실패"인 레시피가 포함된 flush는 실패
+        doAnswer(invocation -> {
+            boolean broken = persisted.stream().anyMatch(recipe -> recipe.getTitle().equals("실패"));
+            persisted.clear();
+            if (broken) {
+                throw new PersistenceException("Data too long for column 'title'");
+            }
+            return null;
+        }).when(entityManager).flush();
+
+        String body = """
+                {"title": "김치찌개", "content": "김치를 볶는다"}
+                {"title": "실패", "content": "저장되지 않는 레시피"}
+                """;
+
+        RecipeImportResultDto result = importBody(body);
+
+        assertEquals(1, result.getImported());
+        List<LineResult> results = result.getResults();
+        assertTrue(results.get(0).isImported());
+        assertNull(results.get(1).getRecipeId());
+        assertEquals("저장할 수 없는 레시피입니다.", results.get(1).getError());
+    }
+
+    @Test
+    @DisplayName("너무 긴 줄은 끝까지 보관하지 않고 실패 처리, 다음 줄부터 이어서 등록")
+    void rejectLongLine() throws IOException {
+        String body = "{\"title\": \"" + "가".repeat(1000) + "\", \"content\": \"긴 제목\"}\r\n" +
+                "{\"title\": \"라면\", \"content\": \"물을 끓인다\"}\r\n";
+
+        RecipeImportResultDto result = importBody(body);
+
+        assertEquals(2, result.getTotal());
+        assertEquals(1, result.getImported());
+        assertEquals("한 줄은 64자까지 입력할 수 있습니다.", result.getResults().get(0).getError());
+        assertEquals(101L, result.getResults().get(1).getRecipeId());
+    }
+
+    private RecipeImportResultDto importBody(String body) throws IOException {
+        return (RecipeImportResultDto) recipeImportService.importRecipes(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), user).getBody();
+    }
+}